@@ -43,7 +43,10 @@ function BursariesPage() {
             if (filters.providerType) params.providerType = filters.providerType;
             if (filters.location) params.location = filters.location;
 
-            return await bursariesAPI.search(params);
+            // Search is paged; list the first (largest) page like the unfiltered view
+            params.size = 100;
+            const response = await bursariesAPI.search(params);
+            return { ...response, data: response?.data?.results || [] };
           }
           // Otherwise get all available
           return await bursariesAPI.getAll();
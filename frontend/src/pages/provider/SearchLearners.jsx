@@ -76,7 +76,7 @@ function SearchLearners() {
       if (searchParams.schoolName) params.schoolName = searchParams.schoolName;
 
       const response = await providerSearchAPI.searchLearners(params);
-      setSearchResults(response?.data || []);
+      setSearchResults(response?.data?.results || []);
       setHasSearched(true);
     } catch (error) {
       console.error('Search error:', error);
@@ -0,0 +1,114 @@
+package com.bursary.platform.Search;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the BigDecimal scoring path that search used before FixedPoint with the
+ * fixed-point one: the filter scan over every learner (minimum average, maximum income)
+ * and the per-learner overall average over four term averages.
+ *
+ * Run with: mvn -P jmh test-compile exec:exec
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FixedPointBenchmark {
+
+    private static final int TERMS = 4;
+
+    @Param({"10000", "100000"})
+    private int learners;
+
+    private final BigDecimal minAverage = new BigDecimal("60.00");
+    private final BigDecimal maxIncome = new BigDecimal("350000.00");
+
+    private BigDecimal[] decimalAverages;
+    private BigDecimal[] decimalIncomes;
+    private BigDecimal[][] decimalTerms;
+
+    private int[] averages;
+    private long[] incomes;
+    private long[][] terms;
+    private long minAverageHundredths;
+    private long maxIncomeCents;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        decimalAverages = new BigDecimal[learners];
+        decimalIncomes = new BigDecimal[learners];
+        decimalTerms = new BigDecimal[learners][TERMS];
+        averages = new int[learners];
+        incomes = new long[learners];
+        terms = new long[learners][TERMS];
+
+        for (int i = 0; i < learners; i++) {
+            averages[i] = random.nextInt(10_001);
+            incomes[i] = random.nextInt(100_000_000);
+            decimalAverages[i] = FixedPoint.toDecimal(averages[i]);
+            decimalIncomes[i] = FixedPoint.toDecimal(incomes[i]);
+
+            for (int term = 0; term < TERMS; term++) {
+                terms[i][term] = random.nextInt(10_001);
+                decimalTerms[i][term] = FixedPoint.toDecimal(terms[i][term]);
+            }
+        }
+
+        minAverageHundredths = FixedPoint.ceilHundredths(minAverage);
+        maxIncomeCents = FixedPoint.floorHundredths(maxIncome);
+    }
+
+    @Benchmark
+    public int filterBigDecimal() {
+        int matches = 0;
+        for (int i = 0; i < learners; i++) {
+            if (decimalAverages[i].compareTo(minAverage) >= 0 && decimalIncomes[i].compareTo(maxIncome) <= 0) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int filterFixedPoint() {
+        int matches = 0;
+        for (int i = 0; i < learners; i++) {
+            if (averages[i] >= minAverageHundredths && incomes[i] <= maxIncomeCents) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public void averageBigDecimal(Blackhole blackhole) {
+        for (int i = 0; i < learners; i++) {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (BigDecimal term : decimalTerms[i]) {
+                sum = sum.add(term);
+            }
+            blackhole.consume(sum.divide(BigDecimal.valueOf(TERMS), 2, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Benchmark
+    public void averageFixedPoint(Blackhole blackhole) {
+        for (int i = 0; i < learners; i++) {
+            long sum = 0;
+            for (long term : terms[i]) {
+                sum += term;
+            }
+            blackhole.consume(FixedPoint.average(sum, TERMS));
+        }
+    }
+}
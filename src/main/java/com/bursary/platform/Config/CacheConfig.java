@@ -4,6 +4,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -22,6 +23,13 @@ public class CacheConfig {
      * - learnerProfile: Learner profile data (10 min expiry)
      * - bursaryList: Active bursaries list (5 min expiry)
      * - applicationsList: User applications (5 min expiry)
+     * - followedLearnerIds: Sorted learner IDs followed by each provider
+     *
+     * Learner search pages are cached separately in LearnerSearchResultCache,
+     * which needs to evict entries by filter rather than by key.
+     *
+     * Wrapped to be transaction aware so puts and evictions made inside a
+     * transaction only take effect after it commits.
      */
     @Bean
     public CacheManager cacheManager() {
@@ -29,12 +37,13 @@ public class CacheConfig {
                 "learnerProfile",
                 "bursaryList",
                 "applicationsList",
-                "notifications"
+                "notifications",
+                "followedLearnerIds"
         );
 
         cacheManager.setCaffeine(caffeineCacheBuilder());
 
-        return cacheManager;
+        return new TransactionAwareCacheManagerProxy(cacheManager);
     }
 
     /**
@@ -0,0 +1,21 @@
+package com.bursary.platform.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * Clock in the platform's business time zone, so "today" (e.g. for bursary
+ * deadlines) does not depend on the server's default zone
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock(@Value("${bursary.time-zone:Africa/Johannesburg}") String timeZone) {
+        return Clock.system(ZoneId.of(timeZone));
+    }
+}
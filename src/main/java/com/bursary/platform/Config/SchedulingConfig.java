@@ -0,0 +1,12 @@
+package com.bursary.platform.Config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (e.g. bursary catalog refresh)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -153,6 +153,31 @@ public class ApplicationController {
         );
     }
 
+    @GetMapping("/provider/inbox")
+    @Operation(summary = "Get application inbox page", description = "Provider pages through received applications, newest first, optionally filtered by status and bursary. Pass nextCursor back as 'cursor' for the next page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Applications retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid size or cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required")
+    })
+    public ResponseEntity<SuccessResponse<ProviderInboxPageResponse>> getProviderInbox(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long bursaryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long providerId = getCurrentProviderId();
+        log.info("Provider {} fetching inbox, status: {}, bursary: {}", providerId, status, bursaryId);
+
+        ProviderInboxPageResponse inbox = applicationService.getProviderInbox(providerId, status, bursaryId, cursor, size);
+
+        return ResponseEntity.ok(
+                SuccessResponse.ok(
+                        String.format("Found %d applications", inbox.getResults().size()),
+                        inbox
+                )
+        );
+    }
+
     @GetMapping("/provider/bursary/{bursaryId}")
     @Operation(summary = "Get applications for specific bursary", description = "Provider views applications for a specific bursary")
     @ApiResponses(value = {
@@ -196,6 +221,28 @@ public class ApplicationController {
         return ResponseEntity.ok(SuccessResponse.ok("Application status updated successfully", response));
     }
 
+    @PatchMapping("/provider/status")
+    @Operation(summary = "Bulk update application statuses", description = "Provider moves up to 500 applications to new statuses in one request; the outcome is reported per application")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Updates applied; see per-application outcomes"),
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<SuccessResponse<BulkApplicationStatusResponse>> bulkUpdateApplicationStatus(
+            @Valid @RequestBody BulkApplicationStatusRequest request) {
+        Long providerId = getCurrentProviderId();
+        log.info("Provider {} bulk updating {} application statuses", providerId, request.getUpdates().size());
+
+        BulkApplicationStatusResponse response = applicationService.bulkUpdateApplicationStatus(providerId, request);
+
+        return ResponseEntity.ok(
+                SuccessResponse.ok(
+                        String.format("Updated %d of %d applications", response.getUpdatedCount(), response.getResults().size()),
+                        response
+                )
+        );
+    }
+
     @GetMapping("/provider/statistics")
     @Operation(summary = "Get application statistics", description = "Provider views statistics about all their applications")
     @ApiResponses(value = {
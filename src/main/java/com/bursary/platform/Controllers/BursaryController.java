@@ -2,6 +2,7 @@ package com.bursary.platform.Controllers;
 
 import com.bursary.platform.DTOs.*;
 import com.bursary.platform.Services.BursaryService;
+import com.bursary.platform.Services.ResponseBodyCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,8 +10,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -25,49 +31,99 @@ import java.util.List;
 public class BursaryController {
 
     private final BursaryService bursaryService;
+    private final ResponseBodyCache responseBodyCache;
 
     @GetMapping
-    @Operation(summary = "Get all active bursaries", description = "Retrieve all active bursary programs")
+    @Operation(summary = "Get all active bursaries", description = "Retrieve all active bursary programs. Supports If-None-Match / If-Modified-Since")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Bursaries retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Bursaries retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the client's copy")
     })
-    public ResponseEntity<SuccessResponse<List<BursarySummaryResponse>>> getAllActiveBursaries() {
+    public ResponseEntity<byte[]> getAllActiveBursaries(
+            WebRequest webRequest,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ResourceVersion version = bursaryService.getActiveBursariesVersion();
+
         log.info("Request received to get all active bursaries");
 
-        List<BursarySummaryResponse> bursaries = bursaryService.getAllActiveBursaries();
+        // Cached per version, so a conditional request only costs a lookup
+        EncodedResponse body = responseBodyCache.get("active", version, () -> {
+            List<BursarySummaryResponse> bursaries = bursaryService.getAllActiveBursaries();
+            return SuccessResponse.ok(String.format("Found %d active bursaries", bursaries.size()), bursaries);
+        });
+
+        return encoded(webRequest, version, body, acceptEncoding);
+    }
+
+    @GetMapping("/available")
+    @Operation(summary = "Get available bursaries", description = "Retrieve bursaries that are active and deadline has not passed. Supports If-None-Match / If-Modified-Since")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Available bursaries retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the client's copy")
+    })
+    public ResponseEntity<byte[]> getAvailableBursaries(
+            WebRequest webRequest,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ResourceVersion version = bursaryService.getAvailableBursariesVersion();
+
+        log.info("Request received to get available bursaries");
+
+        // Cached per version, so a conditional request only costs a lookup
+        EncodedResponse body = responseBodyCache.get("available", version, () -> {
+            List<BursarySummaryResponse> bursaries = bursaryService.getAvailableBursaries();
+            return SuccessResponse.ok(String.format("Found %d available bursaries", bursaries.size()), bursaries);
+        });
+
+        return encoded(webRequest, version, body, acceptEncoding);
+    }
+
+    @GetMapping("/eligible")
+    @Operation(summary = "Get bursaries I qualify for", description = "Retrieve open bursaries whose eligibility criteria (minimum average, required subjects, household income, grade level, location) the current learner meets")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Eligible bursaries retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Learner not found")
+    })
+    public ResponseEntity<SuccessResponse<List<BursarySummaryResponse>>> getEligibleBursaries() {
+        Long learnerId = getCurrentLearnerId();
+        log.info("Request received to get eligible bursaries for learner ID: {}", learnerId);
+
+        List<BursarySummaryResponse> bursaries = bursaryService.getEligibleBursaries(learnerId);
 
         return ResponseEntity.ok(
                 SuccessResponse.ok(
-                        String.format("Found %d active bursaries", bursaries.size()),
+                        String.format("Found %d bursaries you qualify for", bursaries.size()),
                         bursaries
                 )
         );
     }
 
-    @GetMapping("/available")
-    @Operation(summary = "Get available bursaries", description = "Retrieve bursaries that are active and deadline has not passed")
+    @GetMapping("/recommended")
+    @Operation(summary = "Get recommended bursaries", description = "Retrieve the bursaries recommended for the current learner, best match first")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Available bursaries retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Recommended bursaries retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Learner not found")
     })
-    public ResponseEntity<SuccessResponse<List<BursarySummaryResponse>>> getAvailableBursaries() {
-        log.info("Request received to get available bursaries");
+    public ResponseEntity<SuccessResponse<List<BursarySummaryResponse>>> getRecommendedBursaries() {
+        Long learnerId = getCurrentLearnerId();
+        log.info("Request received to get recommended bursaries for learner ID: {}", learnerId);
 
-        List<BursarySummaryResponse> bursaries = bursaryService.getAvailableBursaries();
+        List<BursarySummaryResponse> bursaries = bursaryService.getRecommendedBursaries(learnerId);
 
         return ResponseEntity.ok(
                 SuccessResponse.ok(
-                        String.format("Found %d available bursaries", bursaries.size()),
+                        String.format("Found %d recommended bursaries", bursaries.size()),
                         bursaries
                 )
         );
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search bursaries", description = "Search and filter bursaries based on various criteria")
+    @Operation(summary = "Search bursaries", description = "Search and filter bursaries based on various criteria. Results are paged: pass nextCursor back as cursor for the next page, or use page for offset paging. Sort by amount, deadline or createdAt; keyword searches default to relevance order")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Search completed successfully")
+            @ApiResponse(responseCode = "200", description = "Search completed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid sort, page size or cursor")
     })
-    public ResponseEntity<SuccessResponse<List<BursarySummaryResponse>>> searchBursaries(
+    public ResponseEntity<SuccessResponse<BursarySearchPageResponse>> searchBursaries(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) BigDecimal minAmount,
             @RequestParam(required = false) BigDecimal maxAmount,
@@ -77,22 +133,26 @@ public class BursaryController {
             @RequestParam(required = false) LocalDate deadlineBefore,
             @RequestParam(required = false) Boolean isActive,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDirection
+            @RequestParam(required = false) String sortDirection,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor
     ) {
         log.info("Search request received with keyword: {}, providerType: {}, location: {}",
                 keyword, providerType, location);
 
         BursarySearchRequest searchRequest = new BursarySearchRequest(
                 keyword, minAmount, maxAmount, providerType, location,
-                deadlineAfter, deadlineBefore, isActive, sortBy, sortDirection
+                deadlineAfter, deadlineBefore, isActive, sortBy, sortDirection,
+                page, size, cursor
         );
 
-        List<BursarySummaryResponse> bursaries = bursaryService.searchBursaries(searchRequest);
+        BursarySearchPageResponse results = bursaryService.searchBursaries(searchRequest);
 
         return ResponseEntity.ok(
                 SuccessResponse.ok(
-                        String.format("Found %d bursaries matching your criteria", bursaries.size()),
-                        bursaries
+                        String.format("Found %d bursaries matching your criteria", results.getTotalElements()),
+                        results
                 )
         );
     }
@@ -127,4 +187,56 @@ public class BursaryController {
                 SuccessResponse.ok("Active bursary count retrieved successfully", count)
         );
     }
-}
\ No newline at end of file
+
+    private Long getCurrentLearnerId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return (Long) authentication.getPrincipal();
+    }
+
+    /**
+     * Write a pre-encoded body as-is, or 304 if the client holds the same representation.
+     * The gzip variant has different bytes, so it gets its own strong ETag ("...-gz") and is
+     * sent with Content-Encoding set, so server compression leaves it alone.
+     */
+    private ResponseEntity<byte[]> encoded(WebRequest webRequest, ResourceVersion version,
+                                           EncodedResponse body, String acceptEncoding) {
+        boolean gzip = body.getGzip() != null && acceptsGzip(acceptEncoding);
+        String etag = gzip ? gzipEtag(version.getEtag()) : version.getEtag();
+
+        if (webRequest.checkNotModified(etag, version.getLastModified())) {
+            return null; // 304 with the validators already set
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.getGzip());
+        }
+
+        return response.body(body.getJson());
+    }
+
+    /**
+     * "tag" -> "tag-gz"
+     */
+    private static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // "gzip;q=0" explicitly refuses it
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import com.bursary.platform.Services.FollowService;
 
 import java.util.List;
@@ -82,11 +83,17 @@ public class LearnerController {
     @Operation(summary = "Get learner profile", description = "Retrieve the profile of the currently authenticated learner")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Profile retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the client's copy"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "404", description = "Learner not found")
     })
-    public ResponseEntity<SuccessResponse<LearnerProfileResponse>> getProfile() {
+    public ResponseEntity<SuccessResponse<LearnerProfileResponse>> getProfile(WebRequest webRequest) {
         Long learnerId = getCurrentLearnerId();
+
+        ResourceVersion version = learnerService.getProfileVersion(learnerId);
+        if (version != null && webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null; // 304 with the validators already set
+        }
         log.info("Profile request received for learner ID: {}", learnerId);
 
         LearnerProfileResponse profileResponse = learnerService.getProfile(learnerId);
@@ -1,8 +1,9 @@
 package com.bursary.platform.Controllers;
 
 import com.bursary.platform.DTOs.LearnerProfileDetailResponse;
+import com.bursary.platform.DTOs.LearnerSearchPageResponse;
 import com.bursary.platform.DTOs.LearnerSearchRequest;
-import com.bursary.platform.DTOs.LearnerSearchResultResponse;
+import com.bursary.platform.DTOs.SubjectThreshold;
 import com.bursary.platform.DTOs.SuccessResponse;
 import com.bursary.platform.Services.ProviderSearchService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -31,34 +32,40 @@ public class ProviderSearchController {
     private final ProviderSearchService providerSearchService;
 
     @GetMapping("/search")
-    @Operation(summary = "Search learners", description = "Search for learners based on academic performance and other criteria")
+    @Operation(summary = "Search learners", description = "Search for learners based on academic performance and other criteria. Combine subject thresholds with repeated subjects=Subject:mark params (all must be met). Results are paged; pass nextCursor back as cursor for the next page. Set includeFacets for counts by grade, province, income band and average band")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Search completed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid subject filter, limit or cursor"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - Provider JWT required")
     })
-    public ResponseEntity<SuccessResponse<List<LearnerSearchResultResponse>>> searchLearners(
+    public ResponseEntity<SuccessResponse<LearnerSearchPageResponse>> searchLearners(
             @RequestParam(required = false) BigDecimal minAverageMark,
             @RequestParam(required = false) Integer gradeLevel,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) BigDecimal maxHouseholdIncome,
             @RequestParam(required = false) String subjectName,
             @RequestParam(required = false) BigDecimal minSubjectMark,
-            @RequestParam(required = false) Integer year) {
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) List<String> subjects,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeFacets) {
 
         Long providerId = getCurrentProviderId();
         log.info("Provider {} searching learners", providerId);
 
         LearnerSearchRequest searchRequest = new LearnerSearchRequest(
                 minAverageMark, gradeLevel, location, maxHouseholdIncome,
-                subjectName, minSubjectMark, year
+                subjectName, minSubjectMark, year,
+                subjects != null ? subjects.stream().map(SubjectThreshold::parse).toList() : null
         );
 
-        List<LearnerSearchResultResponse> results = providerSearchService.searchLearners(providerId, searchRequest);
+        LearnerSearchPageResponse page = providerSearchService.searchLearners(providerId, searchRequest, limit, cursor, includeFacets);
 
         return ResponseEntity.ok(
                 SuccessResponse.ok(
-                        String.format("Found %d learners matching your criteria", results.size()),
-                        results
+                        String.format("Found %d learners matching your criteria", page.getResults().size()),
+                        page
                 )
         );
     }
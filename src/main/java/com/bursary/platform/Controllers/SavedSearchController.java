@@ -0,0 +1,96 @@
+package com.bursary.platform.Controllers;
+
+import com.bursary.platform.DTOs.CreateSavedSearchRequest;
+import com.bursary.platform.DTOs.SavedSearchResponse;
+import com.bursary.platform.DTOs.SuccessResponse;
+import com.bursary.platform.Services.SavedSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/providers/saved-searches")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Provider Saved Searches", description = "APIs for providers to be notified when learners newly match their criteria")
+@SecurityRequirement(name = "Bearer Authentication")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    @PostMapping
+    @Operation(summary = "Save a search", description = "Save learner search criteria; you are notified when a learner newly matches them")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Search saved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request or saved search limit reached"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Provider JWT required")
+    })
+    public ResponseEntity<SuccessResponse<SavedSearchResponse>> createSavedSearch(
+            @Valid @RequestBody CreateSavedSearchRequest request) {
+
+        Long providerId = getCurrentProviderId();
+        log.info("Provider {} saving a search", providerId);
+
+        SavedSearchResponse response = savedSearchService.createSavedSearch(providerId, request);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(SuccessResponse.created("Search saved successfully", response));
+    }
+
+    @GetMapping
+    @Operation(summary = "Get saved searches", description = "Get all saved searches of the provider")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Saved searches retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<SuccessResponse<List<SavedSearchResponse>>> getMySavedSearches() {
+        Long providerId = getCurrentProviderId();
+        log.info("Fetching saved searches for provider {}", providerId);
+
+        List<SavedSearchResponse> savedSearches = savedSearchService.getMySavedSearches(providerId);
+
+        return ResponseEntity.ok(
+                SuccessResponse.ok(
+                        String.format("You have %d saved searches", savedSearches.size()),
+                        savedSearches
+                )
+        );
+    }
+
+    @DeleteMapping("/{savedSearchId}")
+    @Operation(summary = "Delete a saved search", description = "Stop being notified about a saved search")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Saved search deleted successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Saved search not found")
+    })
+    public ResponseEntity<SuccessResponse<Void>> deleteSavedSearch(@PathVariable Long savedSearchId) {
+        Long providerId = getCurrentProviderId();
+        log.info("Provider {} deleting saved search {}", providerId, savedSearchId);
+
+        savedSearchService.deleteSavedSearch(providerId, savedSearchId);
+
+        return ResponseEntity.ok(SuccessResponse.ok("Saved search deleted successfully", null));
+    }
+
+    /**
+     * Extract current provider ID from security context
+     */
+    private Long getCurrentProviderId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return (Long) authentication.getPrincipal();
+    }
+}
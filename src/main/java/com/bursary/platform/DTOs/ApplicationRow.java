@@ -0,0 +1,33 @@
+package com.bursary.platform.DTOs;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of a learner's application with its bursary and provider
+ * (no documents or notes). Filled by a JPQL constructor expression.
+ */
+@Value
+public class ApplicationRow {
+
+    Long id;
+    Long learnerId;
+    String status;
+    LocalDateTime submittedAt;
+    LocalDateTime createdAt;
+
+    Long bursaryId;
+    String bursaryTitle;
+    String bursaryDescription;
+    BigDecimal bursaryAmount;
+    LocalDate bursaryApplicationDeadline;
+    Boolean bursaryIsActive;
+
+    Long providerId;
+    String providerOrganizationName;
+    String providerOrganizationType;
+    String providerLocation;
+}
@@ -0,0 +1,17 @@
+package com.bursary.platform.DTOs;
+
+import lombok.Value;
+
+/**
+ * The columns a status change needs: current status, owning provider and what to tell
+ * the learner. Filled by a JPQL constructor expression.
+ */
+@Value
+public class ApplicationStatusRow {
+
+    Long applicationId;
+    Long learnerId;
+    String status;
+    Long providerId;
+    String bursaryTitle;
+}
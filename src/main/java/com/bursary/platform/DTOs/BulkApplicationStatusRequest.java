@@ -0,0 +1,42 @@
+package com.bursary.platform.DTOs;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for provider to move many applications to new statuses in one request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApplicationStatusRequest {
+
+    @NotEmpty(message = "At least one update is required")
+    @Size(max = 500, message = "At most 500 applications can be updated at once")
+    private List<@Valid StatusUpdate> updates;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatusUpdate {
+
+        @NotNull(message = "Application ID is required")
+        private Long applicationId;
+
+        @NotBlank(message = "Status is required")
+        @Pattern(
+                regexp = "submitted|under_review|shortlisted|interview_scheduled|accepted|rejected",
+                message = "Status must be one of: submitted, under_review, shortlisted, interview_scheduled, accepted, rejected"
+        )
+        private String status;
+    }
+}
@@ -0,0 +1,32 @@
+package com.bursary.platform.DTOs;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the outcome of a bulk status update, one result per requested application
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkApplicationStatusResponse {
+
+    private int updatedCount;
+    private List<Result> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+        private Long applicationId;
+        private String outcome; // updated, unchanged, not_found, forbidden
+        private String previousStatus; // Null when not found or forbidden
+        private String status;
+    }
+}
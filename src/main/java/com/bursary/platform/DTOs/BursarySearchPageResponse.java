@@ -0,0 +1,25 @@
+package com.bursary.platform.DTOs;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of bursary search results
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BursarySearchPageResponse {
+
+    private List<BursarySummaryResponse> results;
+    private Integer page; // Only for offset paging (no cursor)
+    private int size;
+    private long totalElements; // Counted once on the first page, then carried in the cursor
+    private boolean hasMore;
+    private String nextCursor; // Pass back as 'cursor' to fetch the next page
+}
@@ -15,7 +15,7 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class BursarySearchRequest {
 
-    private String keyword; // Search in title and description
+    private String keyword; // Search in title, description and criteria (word prefixes, all words required)
     private BigDecimal minAmount;
     private BigDecimal maxAmount;
     private String providerType; // Bank, NGO, Corporate, Government
@@ -23,6 +23,9 @@ public class BursarySearchRequest {
     private LocalDate deadlineAfter; // Only show bursaries with deadline after this date
     private LocalDate deadlineBefore; // Only show bursaries with deadline before this date
     private Boolean isActive; // Default: true
-    private String sortBy; // amount, deadline, createdAt
+    private String sortBy; // amount, deadline, createdAt (default: relevance with a keyword, else deadline)
     private String sortDirection; // asc, desc
+    private Integer page; // Offset paging, ignored when a cursor is given
+    private Integer size; // Default 20, at most 100
+    private String cursor; // nextCursor from the previous page
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.bursary.platform.DTOs;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of the bursary and provider columns a summary needs
+ * (no description or criteria text). Filled by a JPQL constructor expression.
+ */
+@Value
+public class BursarySummaryRow {
+
+    Long id;
+    String title;
+    BigDecimal amount;
+    LocalDate applicationDeadline;
+    Boolean isActive;
+    LocalDateTime createdAt;
+    String providerName;
+    String providerType;
+    String providerLocation;
+}
@@ -0,0 +1,24 @@
+package com.bursary.platform.DTOs;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for provider to save a standing learner search
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateSavedSearchRequest {
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must not exceed 100 characters")
+    private String name; // e.g., "Grade 12 STEM, Gauteng"
+
+    @NotNull(message = "Criteria are required")
+    private LearnerSearchRequest criteria;
+}
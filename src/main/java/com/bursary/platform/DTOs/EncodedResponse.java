@@ -0,0 +1,15 @@
+package com.bursary.platform.DTOs;
+
+import lombok.Value;
+
+/**
+ * A response body serialized once: UTF-8 JSON plus its gzip encoding (null when
+ * compressing would not make it smaller), tagged with the version it was built from
+ */
+@Value
+public class EncodedResponse {
+
+    String etag;
+    byte[] json;
+    byte[] gzip;
+}
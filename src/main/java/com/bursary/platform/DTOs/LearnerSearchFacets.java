@@ -0,0 +1,24 @@
+package com.bursary.platform.DTOs;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Match counts for a learner search, over all matching learners (not just the current page)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LearnerSearchFacets {
+
+    private long totalMatches;
+    private Map<Integer, Long> gradeLevels; // e.g., 12 -> 340
+    private Map<String, Long> locations; // Province, e.g., "gauteng"; "other" / "unspecified" otherwise
+    private Map<String, Long> incomeBands; // e.g., "R100k-R350k"
+    private Map<String, Long> averageBands; // e.g., "70-80"
+}
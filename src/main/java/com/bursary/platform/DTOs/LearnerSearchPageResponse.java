@@ -0,0 +1,24 @@
+package com.bursary.platform.DTOs;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of learner search results
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LearnerSearchPageResponse {
+
+    private List<LearnerSearchResultResponse> results;
+    private int limit;
+    private boolean hasMore;
+    private String nextCursor; // Pass back as 'cursor' to fetch the next page
+    private LearnerSearchFacets facets; // Only when requested with includeFacets
+}
@@ -5,6 +5,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * DTO for provider to search learners by academic criteria
@@ -21,4 +23,22 @@ public class LearnerSearchRequest {
     private String subjectName; // e.g., "Mathematics"
     private BigDecimal minSubjectMark; // e.g., 75.0
     private Integer year; // e.g., 2024
+    private List<SubjectThreshold> subjectThresholds; // All must be met, e.g., Mathematics >= 75 AND Physical Sciences >= 70
+
+    /**
+     * All subject thresholds to apply: the single subjectName/minSubjectMark pair
+     * (only when both are given) plus any additional thresholds
+     */
+    public List<SubjectThreshold> resolveSubjectThresholds() {
+        List<SubjectThreshold> thresholds = new ArrayList<>();
+
+        if (subjectName != null && minSubjectMark != null) {
+            thresholds.add(new SubjectThreshold(subjectName, minSubjectMark));
+        }
+        if (subjectThresholds != null) {
+            thresholds.addAll(subjectThresholds);
+        }
+
+        return thresholds;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.bursary.platform.DTOs;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of a received application with the learner and bursary columns a
+ * provider sees (no password hash or documents). Filled by a JPQL constructor expression.
+ */
+@Value
+public class ProviderApplicationRow {
+
+    Long applicationId;
+    String status;
+    LocalDateTime submittedAt;
+    LocalDateTime reviewedAt;
+    BigDecimal awardAmount;
+    String notes;
+
+    Long learnerId;
+    String learnerFirstName;
+    String learnerLastName;
+    String learnerEmail;
+    String learnerSchoolName;
+    BigDecimal learnerHouseholdIncome;
+    String learnerLocation;
+
+    Long bursaryId;
+    String bursaryTitle;
+    BigDecimal bursaryAmount;
+    LocalDate bursaryApplicationDeadline;
+}
@@ -0,0 +1,23 @@
+package com.bursary.platform.DTOs;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a provider's application inbox
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProviderInboxPageResponse {
+
+    private List<ProviderApplicationResponse> results;
+    private int size;
+    private boolean hasMore;
+    private String nextCursor; // Pass back as 'cursor' to fetch the next page
+}
@@ -0,0 +1,13 @@
+package com.bursary.platform.DTOs;
+
+import lombok.Value;
+
+/**
+ * Validators for a conditional GET: an ETag and the last-modified time in epoch millis
+ */
+@Value
+public class ResourceVersion {
+
+    String etag;
+    long lastModified;
+}
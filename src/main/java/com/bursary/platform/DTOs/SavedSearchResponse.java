@@ -0,0 +1,23 @@
+package com.bursary.platform.DTOs;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a provider's saved learner search
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedSearchResponse {
+
+    private Long id;
+    private String name;
+    private LearnerSearchRequest criteria;
+    private LocalDateTime createdAt;
+}
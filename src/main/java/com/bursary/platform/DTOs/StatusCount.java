@@ -0,0 +1,13 @@
+package com.bursary.platform.DTOs;
+
+import lombok.Value;
+
+/**
+ * Number of applications in one status. Filled by a JPQL constructor expression.
+ */
+@Value
+public class StatusCount {
+
+    String status;
+    Long count;
+}
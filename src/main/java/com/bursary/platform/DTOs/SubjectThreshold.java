@@ -0,0 +1,39 @@
+package com.bursary.platform.DTOs;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Minimum best mark required in one subject, e.g. Mathematics >= 75
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubjectThreshold {
+
+    private String subjectName; // e.g., "Mathematics"
+    private BigDecimal minMark; // e.g., 75.0
+
+    /**
+     * Parse a "Subject:mark" query value, e.g. "Physical Sciences:70"
+     */
+    public static SubjectThreshold parse(String value) {
+        int separator = value.lastIndexOf(':');
+
+        if (separator <= 0 || separator == value.length() - 1) {
+            throw new IllegalArgumentException("Subject filter must look like 'Subject:mark', got: " + value);
+        }
+
+        try {
+            return new SubjectThreshold(
+                    value.substring(0, separator).trim(),
+                    new BigDecimal(value.substring(separator + 1).trim())
+            );
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid subject mark in filter: " + value);
+        }
+    }
+}
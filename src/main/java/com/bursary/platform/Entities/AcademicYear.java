@@ -57,5 +57,6 @@ public class AcademicYear {
 
     @OneToMany(mappedBy = "academicYear", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
+    @Builder.Default
     private List<TermResult> termResults = new ArrayList<>();
 }
\ No newline at end of file
@@ -40,6 +40,9 @@ public class Application {
     @Column(name = "bursary_id", nullable = false)
     private Long bursaryId;
 
+    @Column(name = "provider_id", nullable = false)
+    private Long providerId; // Copied from the bursary so a provider's inbox has its own index
+
     @Column(name = "status", nullable = false, length = 50)
     private String status = "submitted"; // draft, submitted, under_review, shortlisted, interview_scheduled, accepted, rejected
 
@@ -0,0 +1,62 @@
+package com.bursary.platform.Entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized academic summary of a learner's latest academic year.
+ * Maintained by LearnerSearchSummaryService so provider search can run as a single query.
+ */
+@Entity
+@Table(name = "learner_search_summary",
+        indexes = {
+                @Index(name = "idx_learner_search_summary_grade", columnList = "grade_level"),
+                @Index(name = "idx_learner_search_summary_year", columnList = "year"),
+                @Index(name = "idx_learner_search_summary_average", columnList = "overall_average")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LearnerSearchSummary {
+
+    @Id
+    @Column(name = "learner_id")
+    private Long learnerId;
+
+    @Column(name = "academic_year_id", nullable = false)
+    private Long academicYearId; // Latest academic year with results
+
+    @Column(name = "year", nullable = false)
+    private Integer year;
+
+    @Column(name = "grade_level", nullable = false)
+    private Integer gradeLevel;
+
+    @Column(name = "term_count", nullable = false)
+    private Integer termCount;
+
+    @Column(name = "overall_average", nullable = false, precision = 5, scale = 2)
+    private BigDecimal overallAverage; // Average across all terms of the latest year
+
+    @Column(name = "highest_term_average", nullable = false, precision = 5, scale = 2)
+    private BigDecimal highestTermAverage;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Relationship
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "learner_id", insertable = false, updatable = false)
+    @JsonIgnore
+    private Learner learner;
+}
@@ -0,0 +1,45 @@
+package com.bursary.platform.Entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Best mark per subject in a learner's latest academic year (part of the search summary)
+ */
+@Entity
+@Table(name = "learner_subject_summary",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "unique_learner_subject_summary",
+                        columnNames = {"learner_id", "subject_key"})
+        },
+        indexes = {
+                @Index(name = "idx_learner_subject_summary_learner", columnList = "learner_id"),
+                @Index(name = "idx_learner_subject_summary_subject_mark", columnList = "subject_key, best_mark")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LearnerSubjectSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "learner_id", nullable = false)
+    private Long learnerId;
+
+    @Column(name = "subject_key", nullable = false, length = 100)
+    private String subjectKey; // Normalized (trimmed, lower case) subject name
+
+    @Column(name = "subject_name", nullable = false, length = 100)
+    private String subjectName; // e.g., "Mathematics"
+
+    @Column(name = "best_mark", nullable = false, precision = 5, scale = 2)
+    private BigDecimal bestMark;
+}
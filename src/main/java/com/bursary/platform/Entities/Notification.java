@@ -36,7 +36,7 @@ public class Notification {
     private String userType; // 'learner' or 'provider'
 
     @Column(name = "notification_type", nullable = false, length = 50)
-    private String notificationType; // 'new_follower', 'result_update', 'new_offer', 'new_application'
+    private String notificationType; // 'new_follower', 'result_update', 'new_offer', 'new_application', 'saved_search_match', 'application_status'
 
     @Column(name = "title", nullable = false, length = 255)
     private String title;
@@ -46,7 +46,7 @@ public class Notification {
     private String message;
 
     @Column(name = "related_entity_type", length = 50)
-    private String relatedEntityType; // 'follow', 'academic_year', 'offer', 'application'
+    private String relatedEntityType; // 'follow', 'academic_year', 'offer', 'application', 'learner'
 
     @Column(name = "related_entity_id")
     private Long relatedEntityId;
@@ -0,0 +1,43 @@
+package com.bursary.platform.Entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a provider's standing learner search.
+ * Providers are notified when a learner newly matches its criteria.
+ */
+@Entity
+@Table(name = "saved_searches",
+        indexes = {
+                @Index(name = "idx_saved_searches_provider", columnList = "provider_id")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "provider_id", nullable = false)
+    private Long providerId;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "criteria", nullable = false, columnDefinition = "TEXT")
+    private String criteria; // LearnerSearchRequest as JSON
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
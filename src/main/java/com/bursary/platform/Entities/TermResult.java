@@ -57,5 +57,6 @@ public class TermResult {
 
     @OneToMany(mappedBy = "termResult", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
+    @Builder.Default
     private List<SubjectMark> subjectMarks = new ArrayList<>();
 }
\ No newline at end of file
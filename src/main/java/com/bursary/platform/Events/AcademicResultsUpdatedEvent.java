@@ -0,0 +1,17 @@
+package com.bursary.platform.Events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outbox event: a learner added or changed term results in an academic year
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AcademicResultsUpdatedEvent {
+
+    private Long learnerId;
+    private Long academicYearId;
+}
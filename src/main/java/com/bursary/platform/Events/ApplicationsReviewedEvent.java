@@ -0,0 +1,31 @@
+package com.bursary.platform.Events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outbox event: a provider moved one or more applications to a new status
+ * (one event per request, so a bulk update is relayed as a single event)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationsReviewedEvent {
+
+    private Long providerId;
+    private List<Review> reviews;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Review {
+        private Long applicationId;
+        private Long learnerId;
+        private String bursaryTitle;
+        private String previousStatus;
+        private String status;
+    }
+}
@@ -0,0 +1,19 @@
+package com.bursary.platform.Events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outbox event: a provider started following a learner
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LearnerFollowedEvent {
+
+    private Long followId;
+    private Long providerId;
+    private Long learnerId;
+    private String providerName;
+}
@@ -0,0 +1,30 @@
+package com.bursary.platform.Events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outbox event: a learner's recomputed results newly match one or more saved searches
+ * (one event per summary change, carrying every matched search)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchesMatchedEvent {
+
+    private Long learnerId;
+    private String learnerName;
+    private List<Match> matches;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Match {
+        private Long savedSearchId;
+        private Long providerId;
+        private String searchName;
+    }
+}
@@ -1,16 +1,25 @@
 package com.bursary.platform.Repositories;
 
+import com.bursary.platform.DTOs.ApplicationRow;
+import com.bursary.platform.DTOs.ApplicationStatusRow;
+import com.bursary.platform.DTOs.ProviderApplicationRow;
+import com.bursary.platform.DTOs.StatusCount;
 import com.bursary.platform.Entities.Application;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>, ApplicationRepositoryCustom {
 
     /**
      * Find all applications by learner ID
@@ -27,6 +36,21 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      */
     boolean existsByLearnerIdAndBursaryId(Long learnerId, Long bursaryId);
 
+    /**
+     * Create an application in one round trip unless the learner already applied to the
+     * bursary (unique_learner_bursary). Returns the new ID, or empty for a duplicate.
+     */
+    @Query(value = "INSERT INTO applications (learner_id, bursary_id, provider_id, status, submitted_at, created_at, updated_at) " +
+            "VALUES (:learnerId, :bursaryId, :providerId, :status, :submittedAt, :submittedAt, :submittedAt) " +
+            "ON CONFLICT ON CONSTRAINT unique_learner_bursary DO NOTHING " +
+            "RETURNING id",
+            nativeQuery = true)
+    Optional<Long> insertIfAbsent(@Param("learnerId") Long learnerId,
+                                  @Param("bursaryId") Long bursaryId,
+                                  @Param("providerId") Long providerId,
+                                  @Param("status") String status,
+                                  @Param("submittedAt") LocalDateTime submittedAt);
+
     /**
      * Count applications by learner
      */
@@ -37,6 +61,26 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      */
     List<Application> findByLearnerIdAndStatus(Long learnerId, String status);
 
+    String LEARNER_ROW_SELECT = "SELECT new com.bursary.platform.DTOs.ApplicationRow(" +
+            "a.id, a.learnerId, a.status, a.submittedAt, a.createdAt, " +
+            "b.id, b.title, b.description, b.amount, b.applicationDeadline, b.isActive, " +
+            "p.id, p.organizationName, p.organizationType, p.location) " +
+            "FROM Application a JOIN a.bursary b JOIN b.provider p ";
+
+    /**
+     * A learner's applications with bursary and provider columns, newest first (one query)
+     */
+    @Query(LEARNER_ROW_SELECT +
+            "WHERE a.learnerId = :learnerId " +
+            "ORDER BY a.submittedAt DESC")
+    List<ApplicationRow> findRowsByLearnerId(@Param("learnerId") Long learnerId);
+
+    /**
+     * One application with bursary and provider columns
+     */
+    @Query(LEARNER_ROW_SELECT + "WHERE a.id = :applicationId")
+    Optional<ApplicationRow> findRowById(@Param("applicationId") Long applicationId);
+
 
     // ========== PROVIDER QUERIES ==========
 
@@ -65,21 +109,72 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      */
     List<Application> findByBursaryIdOrderBySubmittedAtDesc(Long bursaryId);
 
+    String PROVIDER_ROW_SELECT = "SELECT new com.bursary.platform.DTOs.ProviderApplicationRow(" +
+            "a.id, a.status, a.submittedAt, a.reviewedAt, a.awardAmount, a.notes, " +
+            "l.id, l.firstName, l.lastName, l.email, l.schoolName, l.householdIncome, l.location, " +
+            "b.id, b.title, b.amount, b.applicationDeadline) " +
+            "FROM Application a JOIN a.bursary b JOIN a.learner l ";
+
     /**
-     * Count applications by provider
+     * Applications received by a provider with learner and bursary columns (one query)
      */
-    @Query("SELECT COUNT(a) FROM Application a " +
-            "JOIN a.bursary b " +
-            "WHERE b.providerId = :providerId")
-    long countByProviderId(@Param("providerId") Long providerId);
+    @Query(PROVIDER_ROW_SELECT +
+            "WHERE b.providerId = :providerId " +
+            "ORDER BY a.submittedAt DESC")
+    List<ProviderApplicationRow> findRowsByProviderId(@Param("providerId") Long providerId);
+
+    /**
+     * Applications received by a provider in one status, with learner and bursary columns
+     */
+    @Query(PROVIDER_ROW_SELECT +
+            "WHERE b.providerId = :providerId " +
+            "AND a.status = :status " +
+            "ORDER BY a.submittedAt DESC")
+    List<ProviderApplicationRow> findRowsByProviderIdAndStatus(@Param("providerId") Long providerId,
+                                                               @Param("status") String status);
 
     /**
-     * Count applications by provider and status
+     * Applications for one bursary with learner and bursary columns
      */
-    @Query("SELECT COUNT(a) FROM Application a " +
+    @Query(PROVIDER_ROW_SELECT +
+            "WHERE a.bursaryId = :bursaryId " +
+            "ORDER BY a.submittedAt DESC")
+    List<ProviderApplicationRow> findRowsByBursaryId(@Param("bursaryId") Long bursaryId);
+
+    /**
+     * Count a provider's applications per status in one scan
+     */
+    @Query("SELECT new com.bursary.platform.DTOs.StatusCount(a.status, COUNT(a)) FROM Application a " +
             "JOIN a.bursary b " +
             "WHERE b.providerId = :providerId " +
-            "AND a.status = :status")
-    long countByProviderIdAndStatus(@Param("providerId") Long providerId,
-                                    @Param("status") String status);
-}
\ No newline at end of file
+            "GROUP BY a.status")
+    List<StatusCount> countByProviderIdGroupedByStatus(@Param("providerId") Long providerId);
+
+    /**
+     * Application by ID, locking its row until the transaction ends so concurrent status
+     * changes of the same application are applied one after the other
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Application a WHERE a.id = :applicationId")
+    Optional<Application> findByIdForUpdate(@Param("applicationId") Long applicationId);
+
+    /**
+     * Status and owner of the given applications in one query, locking the application
+     * rows until the transaction ends so the statuses cannot change underneath
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.bursary.platform.DTOs.ApplicationStatusRow(a.id, a.learnerId, a.status, b.providerId, b.title) " +
+            "FROM Application a JOIN a.bursary b " +
+            "WHERE a.id IN :applicationIds")
+    List<ApplicationStatusRow> findStatusRowsForUpdate(@Param("applicationIds") Collection<Long> applicationIds);
+
+    /**
+     * Move the given applications to one status in a single statement
+     */
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :status, a.reviewedAt = :reviewedAt, a.updatedAt = :reviewedAt " +
+            "WHERE a.id IN :applicationIds")
+    int updateStatus(@Param("applicationIds") Collection<Long> applicationIds,
+                     @Param("status") String status,
+                     @Param("reviewedAt") LocalDateTime reviewedAt);
+}
@@ -0,0 +1,19 @@
+package com.bursary.platform.Repositories;
+
+import com.bursary.platform.DTOs.ProviderApplicationRow;
+import com.bursary.platform.Search.ApplicationInboxCursor;
+
+import java.util.List;
+
+/**
+ * Provider application inbox with filtering and keyset paging applied by the database
+ */
+public interface ApplicationRepositoryCustom {
+
+    /**
+     * Up to {@code limit} applications received by the provider, newest first, after the
+     * cursor when given. Status and bursary filters are optional (null = any).
+     */
+    List<ProviderApplicationRow> findInboxRows(Long providerId, String status, Long bursaryId,
+                                               ApplicationInboxCursor after, int limit);
+}
@@ -0,0 +1,73 @@
+package com.bursary.platform.Repositories;
+
+import com.bursary.platform.DTOs.ProviderApplicationRow;
+import com.bursary.platform.Search.ApplicationInboxCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the inbox JPQL from the filters actually present and continues pages from
+ * (submittedAt, id), so each page is an index range scan of {@code limit} rows however
+ * deep the client has paged. Filters go on the application's own columns so the
+ * scan can use idx_applications_provider_inbox, idx_applications_provider_status_inbox
+ * or idx_applications_bursary_inbox, which share the ORDER BY below.
+ */
+public class ApplicationRepositoryCustomImpl implements ApplicationRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProviderApplicationRow> findInboxRows(Long providerId, String status, Long bursaryId,
+                                                      ApplicationInboxCursor after, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = new StringBuilder(ApplicationRepository.PROVIDER_ROW_SELECT + "WHERE a.providerId = :providerId");
+        parameters.put("providerId", providerId);
+
+        if (status != null) {
+            jpql.append(" AND a.status = :status");
+            parameters.put("status", status);
+        }
+        if (bursaryId != null) {
+            jpql.append(" AND a.bursaryId = :bursaryId");
+            parameters.put("bursaryId", bursaryId);
+        }
+        if (after != null) {
+            appendKeyset(jpql, parameters, after);
+        }
+
+        jpql.append(" ORDER BY a.submittedAt DESC NULLS LAST, a.id DESC");
+
+        TypedQuery<ProviderApplicationRow> typedQuery = entityManager.createQuery(jpql.toString(), ProviderApplicationRow.class);
+        parameters.forEach(typedQuery::setParameter);
+
+        return typedQuery
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * Rows after the cursor in "submittedAt DESC NULLS LAST, id DESC" order
+     */
+    private void appendKeyset(StringBuilder jpql, Map<String, Object> parameters, ApplicationInboxCursor after) {
+        parameters.put("afterId", after.getApplicationId());
+
+        if (after.getSubmittedAt() == null) {
+            // Already in the trailing rows without a submission time
+            jpql.append(" AND a.submittedAt IS NULL AND a.id < :afterId");
+            return;
+        }
+
+        parameters.put("afterSubmittedAt", after.getSubmittedAt());
+        jpql.append(" AND (a.submittedAt < :afterSubmittedAt")
+                .append(" OR (a.submittedAt = :afterSubmittedAt AND a.id < :afterId)")
+                .append(" OR a.submittedAt IS NULL)");
+    }
+}
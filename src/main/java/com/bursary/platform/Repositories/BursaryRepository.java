@@ -6,12 +6,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface BursaryRepository extends JpaRepository<Bursary, Long> {
+public interface BursaryRepository extends JpaRepository<Bursary, Long>, BursaryRepositoryCustom {
 
     /**
      * Find all active bursaries
@@ -24,28 +24,6 @@ public interface BursaryRepository extends JpaRepository<Bursary, Long> {
     @Query("SELECT b FROM Bursary b WHERE b.isActive = true AND b.applicationDeadline >= :today ORDER BY b.applicationDeadline ASC")
     List<Bursary> findAvailableBursaries(@Param("today") LocalDate today);
 
-    /**
-     * Search bursaries with filters (EXACT MATCH ONLY - NO LIKE)
-     */
-    @Query("SELECT b FROM Bursary b JOIN b.provider p WHERE " +
-            "(:minAmount IS NULL OR b.amount >= :minAmount) AND " +
-            "(:maxAmount IS NULL OR b.amount <= :maxAmount) AND " +
-            "(:providerType IS NULL OR p.organizationType = :providerType) AND " +
-            "(:location IS NULL OR p.location = :location) AND " +
-            "(:isActive IS NULL OR b.isActive = :isActive) AND " +
-            "(:deadlineAfter IS NULL OR b.applicationDeadline >= :deadlineAfter) AND " +
-            "(:deadlineBefore IS NULL OR b.applicationDeadline <= :deadlineBefore)")
-    List<Bursary> searchBursaries(
-            @Param("keyword") String keyword,
-            @Param("minAmount") BigDecimal minAmount,
-            @Param("maxAmount") BigDecimal maxAmount,
-            @Param("providerType") String providerType,
-            @Param("location") String location,
-            @Param("isActive") Boolean isActive,
-            @Param("deadlineAfter") LocalDate deadlineAfter,
-            @Param("deadlineBefore") LocalDate deadlineBefore
-    );
-
     /**
      * Find bursaries by provider
      */
@@ -55,4 +33,25 @@ public interface BursaryRepository extends JpaRepository<Bursary, Long> {
      * Count active bursaries
      */
     long countByIsActiveTrue();
+
+    /**
+     * Find all bursaries with their provider in one query (catalog snapshot)
+     */
+    @Query("SELECT b FROM Bursary b LEFT JOIN FETCH b.provider")
+    List<Bursary> findAllWithProvider();
+
+    /**
+     * Cheap change marker for the catalog: row count and latest bursary/provider updates
+     */
+    @Query("SELECT COUNT(b) AS bursaryCount, MAX(b.updatedAt) AS lastBursaryUpdate, MAX(p.updatedAt) AS lastProviderUpdate " +
+            "FROM Bursary b LEFT JOIN b.provider p")
+    CatalogMarker findCatalogMarker();
+
+    interface CatalogMarker {
+        long getBursaryCount();
+
+        LocalDateTime getLastBursaryUpdate();
+
+        LocalDateTime getLastProviderUpdate();
+    }
 }
\ No newline at end of file
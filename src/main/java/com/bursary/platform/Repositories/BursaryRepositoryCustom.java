@@ -0,0 +1,24 @@
+package com.bursary.platform.Repositories;
+
+import com.bursary.platform.DTOs.BursarySummaryRow;
+import com.bursary.platform.Search.BursarySearchCursor;
+import com.bursary.platform.Search.BursarySearchQuery;
+
+import java.util.List;
+
+/**
+ * Bursary search with filtering, ordering and paging applied by the database
+ */
+public interface BursaryRepositoryCustom {
+
+    /**
+     * One page of matching bursaries as summary rows (provider columns joined), after the
+     * cursor when given, otherwise after skipping {@code offset} rows
+     */
+    List<BursarySummaryRow> search(BursarySearchQuery query, BursarySearchCursor after, int offset, int limit);
+
+    /**
+     * Number of bursaries matching the filters
+     */
+    long countSearch(BursarySearchQuery query);
+}
@@ -0,0 +1,133 @@
+package com.bursary.platform.Repositories;
+
+import com.bursary.platform.DTOs.BursarySummaryRow;
+import com.bursary.platform.Search.BursarySearchCursor;
+import com.bursary.platform.Search.BursarySearchQuery;
+import com.bursary.platform.Search.BursarySortField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the search JPQL from the filters actually present, so the planner sees plain
+ * predicates instead of "(:param IS NULL OR ...)" and can use the deadline index
+ * for ORDER BY ... LIMIT. Keyset pages continue from (sort value, id).
+ */
+public class BursaryRepositoryCustomImpl implements BursaryRepositoryCustom {
+
+    private static final String SUMMARY_ROW_SELECT = "SELECT new com.bursary.platform.DTOs.BursarySummaryRow(" +
+            "b.id, b.title, b.amount, b.applicationDeadline, b.isActive, b.createdAt, " +
+            "p.organizationName, p.organizationType, p.location) " +
+            "FROM Bursary b JOIN b.provider p";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BursarySummaryRow> search(BursarySearchQuery query, BursarySearchCursor after, int offset, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = new StringBuilder(SUMMARY_ROW_SELECT + " WHERE 1 = 1");
+
+        appendFilters(jpql, parameters, query);
+        if (after != null) {
+            appendKeyset(jpql, parameters, query, after);
+        }
+
+        BursarySortField sortField = query.getSortField();
+        if (sortField != null) {
+            jpql.append(" ORDER BY ").append(sortField.getPath())
+                    .append(query.isDescending() ? " DESC" : " ASC")
+                    .append(" NULLS LAST, b.id ASC");
+        } else {
+            jpql.append(" ORDER BY b.id ASC");
+        }
+
+        TypedQuery<BursarySummaryRow> typedQuery = entityManager.createQuery(jpql.toString(), BursarySummaryRow.class);
+        parameters.forEach(typedQuery::setParameter);
+
+        return typedQuery
+                .setFirstResult(after != null ? 0 : offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countSearch(BursarySearchQuery query) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT COUNT(b) FROM Bursary b JOIN b.provider p WHERE 1 = 1");
+
+        appendFilters(jpql, parameters, query);
+
+        TypedQuery<Long> typedQuery = entityManager.createQuery(jpql.toString(), Long.class);
+        parameters.forEach(typedQuery::setParameter);
+
+        return typedQuery.getSingleResult();
+    }
+
+    // ========== Helper Methods ==========
+
+    private void appendFilters(StringBuilder jpql, Map<String, Object> parameters, BursarySearchQuery query) {
+        if (query.getBursaryIds() != null) {
+            jpql.append(" AND b.id IN :bursaryIds");
+            parameters.put("bursaryIds", query.getBursaryIds());
+        }
+        if (query.getProviderIds() != null) {
+            jpql.append(" AND b.providerId IN :providerIds");
+            parameters.put("providerIds", query.getProviderIds());
+        }
+        if (query.getMinAmount() != null) {
+            jpql.append(" AND b.amount >= :minAmount");
+            parameters.put("minAmount", query.getMinAmount());
+        }
+        if (query.getMaxAmount() != null) {
+            jpql.append(" AND b.amount <= :maxAmount");
+            parameters.put("maxAmount", query.getMaxAmount());
+        }
+        if (query.getProviderType() != null) {
+            jpql.append(" AND p.organizationType = :providerType");
+            parameters.put("providerType", query.getProviderType());
+        }
+        if (query.getIsActive() != null) {
+            jpql.append(" AND b.isActive = :isActive");
+            parameters.put("isActive", query.getIsActive());
+        }
+        if (query.getDeadlineAfter() != null) {
+            jpql.append(" AND b.applicationDeadline >= :deadlineAfter");
+            parameters.put("deadlineAfter", query.getDeadlineAfter());
+        }
+        if (query.getDeadlineBefore() != null) {
+            jpql.append(" AND b.applicationDeadline <= :deadlineBefore");
+            parameters.put("deadlineBefore", query.getDeadlineBefore());
+        }
+    }
+
+    /**
+     * Rows after the cursor in "value ASC|DESC NULLS LAST, id ASC" order
+     */
+    private void appendKeyset(StringBuilder jpql, Map<String, Object> parameters,
+                              BursarySearchQuery query, BursarySearchCursor after) {
+        parameters.put("afterId", after.getPosition());
+
+        BursarySortField sortField = query.getSortField();
+        if (sortField == null) {
+            jpql.append(" AND b.id > :afterId");
+            return;
+        }
+
+        String path = sortField.getPath();
+        if (after.getValue() == null) {
+            // Already in the trailing rows without a value
+            jpql.append(" AND ").append(path).append(" IS NULL AND b.id > :afterId");
+            return;
+        }
+
+        parameters.put("afterValue", sortField.parse(after.getValue()));
+        jpql.append(" AND (").append(path).append(query.isDescending() ? " < " : " > ").append(":afterValue")
+                .append(" OR (").append(path).append(" = :afterValue AND b.id > :afterId)")
+                .append(" OR ").append(path).append(" IS NULL)");
+    }
+}
@@ -2,11 +2,15 @@ package com.bursary.platform.Repositories;
 
 
 import com.bursary.platform.Entities.Learner;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -34,6 +38,26 @@ public interface LearnerRepository extends JpaRepository<Learner, Long> {
     @Query("SELECT l FROM Learner l WHERE LOWER(l.email) = LOWER(:email)")
     Optional<Learner> findByEmailIgnoreCase(@Param("email") String email);
 
+    /**
+     * Last update time of a learner's row (profile version), without loading the entity
+     */
+    @Query("SELECT l.updatedAt FROM Learner l WHERE l.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    /**
+     * Learner by ID, locking its row until the transaction ends so concurrent writes that
+     * derive data from the learner (search summaries, profile) are applied one after the other
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM Learner l WHERE l.id = :id")
+    Optional<Learner> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Distinct locations entered by learners (matched against location filters in memory)
+     */
+    @Query("SELECT DISTINCT l.location FROM Learner l WHERE l.location IS NOT NULL")
+    List<String> findDistinctLocations();
+
 
     /**
      * Find learner by ID and ensure they are active
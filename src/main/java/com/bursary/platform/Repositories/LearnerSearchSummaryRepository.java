@@ -0,0 +1,26 @@
+package com.bursary.platform.Repositories;
+
+import com.bursary.platform.Entities.LearnerSearchSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LearnerSearchSummaryRepository extends JpaRepository<LearnerSearchSummary, Long>, LearnerSearchSummaryRepositoryCustom {
+
+    /**
+     * Load all summaries with their learner (used to build the in-memory search index)
+     */
+    @Query("SELECT s FROM LearnerSearchSummary s JOIN FETCH s.learner")
+    List<LearnerSearchSummary> findAllWithLearner();
+
+    /**
+     * Find learners with academic years but no summary row yet (used for backfill)
+     */
+    @Query("SELECT DISTINCT a.learnerId FROM AcademicYear a WHERE NOT EXISTS " +
+            "(SELECT s.learnerId FROM LearnerSearchSummary s WHERE s.learnerId = a.learnerId)")
+    List<Long> findLearnerIdsWithoutSummary();
+}
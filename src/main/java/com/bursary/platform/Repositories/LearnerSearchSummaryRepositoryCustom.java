@@ -0,0 +1,26 @@
+package com.bursary.platform.Repositories;
+
+import com.bursary.platform.DTOs.LearnerSearchRequest;
+import com.bursary.platform.Entities.LearnerSearchSummary;
+import com.bursary.platform.Search.LearnerSearchCursor;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Learner summary search with filtering, ordering and paging applied by the database
+ */
+public interface LearnerSearchSummaryRepositoryCustom {
+
+    /**
+     * One page of matching summaries (with their learner), best overall average first,
+     * after the cursor when given. {@code locations} lists the learner locations the
+     * location filter accepts (null for no location filter); {@code minSubjectMarks}
+     * maps normalized subject names to the minimum best mark, all required.
+     */
+    List<LearnerSearchSummary> searchSummaries(LearnerSearchRequest request, Collection<String> locations,
+                                               Map<String, BigDecimal> minSubjectMarks,
+                                               LearnerSearchCursor after, int limit);
+}
@@ -0,0 +1,84 @@
+package com.bursary.platform.Repositories;
+
+import com.bursary.platform.DTOs.LearnerSearchRequest;
+import com.bursary.platform.Entities.LearnerSearchSummary;
+import com.bursary.platform.Search.LearnerSearchCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the learner search JPQL from the filters actually present: plain predicates
+ * instead of "(:param IS NULL OR ...)", and one EXISTS on learner_subject_summary per
+ * subject threshold. Keyset pages continue from (overall average, learner ID).
+ */
+public class LearnerSearchSummaryRepositoryCustomImpl implements LearnerSearchSummaryRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<LearnerSearchSummary> searchSummaries(LearnerSearchRequest request, Collection<String> locations,
+                                                      Map<String, BigDecimal> minSubjectMarks,
+                                                      LearnerSearchCursor after, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT s FROM LearnerSearchSummary s JOIN FETCH s.learner l WHERE 1 = 1");
+
+        if (request.getGradeLevel() != null) {
+            jpql.append(" AND s.gradeLevel = :gradeLevel");
+            parameters.put("gradeLevel", request.getGradeLevel());
+        }
+        if (request.getYear() != null) {
+            jpql.append(" AND s.year = :year");
+            parameters.put("year", request.getYear());
+        }
+        if (request.getMinAverageMark() != null) {
+            jpql.append(" AND s.overallAverage >= :minAverageMark");
+            parameters.put("minAverageMark", request.getMinAverageMark());
+        }
+        // Learners without a household income or location are not excluded by those filters
+        if (request.getMaxHouseholdIncome() != null) {
+            jpql.append(" AND (l.householdIncome IS NULL OR l.householdIncome <= :maxHouseholdIncome)");
+            parameters.put("maxHouseholdIncome", request.getMaxHouseholdIncome());
+        }
+        if (locations != null) {
+            if (locations.isEmpty()) {
+                jpql.append(" AND l.location IS NULL");
+            } else {
+                jpql.append(" AND (l.location IS NULL OR l.location IN :locations)");
+                parameters.put("locations", locations);
+            }
+        }
+
+        int subject = 0;
+        for (Map.Entry<String, BigDecimal> threshold : minSubjectMarks.entrySet()) {
+            jpql.append(" AND EXISTS (SELECT ss.id FROM LearnerSubjectSummary ss WHERE ss.learnerId = s.learnerId")
+                    .append(" AND ss.subjectKey = :subjectKey").append(subject)
+                    .append(" AND ss.bestMark >= :minSubjectMark").append(subject).append(")");
+            parameters.put("subjectKey" + subject, threshold.getKey());
+            parameters.put("minSubjectMark" + subject, threshold.getValue());
+            subject++;
+        }
+
+        if (after != null) {
+            jpql.append(" AND (s.overallAverage < :afterAverage OR (s.overallAverage = :afterAverage AND s.learnerId > :afterLearnerId))");
+            parameters.put("afterAverage", after.getOverallAverageValue());
+            parameters.put("afterLearnerId", after.getLearnerId());
+        }
+
+        jpql.append(" ORDER BY s.overallAverage DESC, s.learnerId ASC");
+
+        TypedQuery<LearnerSearchSummary> typedQuery = entityManager.createQuery(jpql.toString(), LearnerSearchSummary.class);
+        parameters.forEach(typedQuery::setParameter);
+
+        return typedQuery
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,26 @@
+package com.bursary.platform.Repositories;
+
+import com.bursary.platform.Entities.LearnerSubjectSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LearnerSubjectSummaryRepository extends JpaRepository<LearnerSubjectSummary, Long> {
+
+    /**
+     * Find best subject marks for a learner
+     */
+    List<LearnerSubjectSummary> findByLearnerIdOrderBySubjectKeyAsc(Long learnerId);
+
+    /**
+     * Delete all subject summaries for a learner
+     */
+    @Modifying
+    @Query("DELETE FROM LearnerSubjectSummary s WHERE s.learnerId = :learnerId")
+    void deleteByLearnerId(@Param("learnerId") Long learnerId);
+}
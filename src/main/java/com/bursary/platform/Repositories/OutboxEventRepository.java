@@ -0,0 +1,34 @@
+package com.bursary.platform.Repositories;
+
+import com.bursary.platform.Entities.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Oldest pending events that are due, locked until the transaction ends. Rows another
+     * relay instance has locked are skipped rather than waited for.
+     */
+    @Query(value = "SELECT * FROM outbox_events " +
+            "WHERE processed_at IS NULL AND available_at <= :now " +
+            "ORDER BY id " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEvent> lockPending(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Delete events relayed successfully before the given time (abandoned ones are kept)
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.processedAt < :before AND e.lastError IS NULL")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
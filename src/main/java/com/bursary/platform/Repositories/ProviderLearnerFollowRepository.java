@@ -1,7 +1,11 @@
 package com.bursary.platform.Repositories;
 
+import com.bursary.platform.DTOs.FollowResponse;
+import com.bursary.platform.DTOs.FollowedLearnerResponse;
 import com.bursary.platform.Entities.ProviderLearnerFollow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -25,11 +29,38 @@ public interface ProviderLearnerFollowRepository extends JpaRepository<ProviderL
      */
     List<ProviderLearnerFollow> findByProviderIdOrderByFollowedAtDesc(Long providerId);
 
+    /**
+     * Get IDs of all learners followed by a provider, ascending
+     */
+    @Query("SELECT f.learnerId FROM ProviderLearnerFollow f WHERE f.providerId = :providerId ORDER BY f.learnerId ASC")
+    List<Long> findLearnerIdsByProviderId(@Param("providerId") Long providerId);
+
+    /**
+     * Learners followed by a provider with the learner columns shown, newest first (one query)
+     */
+    @Query("SELECT new com.bursary.platform.DTOs.FollowedLearnerResponse(" +
+            "l.id, l.firstName, l.lastName, l.schoolName, l.location, l.householdIncome, " +
+            "f.id, f.followedAt, f.notes) " +
+            "FROM ProviderLearnerFollow f JOIN f.learner l " +
+            "WHERE f.providerId = :providerId " +
+            "ORDER BY f.followedAt DESC")
+    List<FollowedLearnerResponse> findFollowedLearnersByProviderId(@Param("providerId") Long providerId);
+
     /**
      * Get all providers following a learner
      */
     List<ProviderLearnerFollow> findByLearnerIdOrderByFollowedAtDesc(Long learnerId);
 
+    /**
+     * Follows of a learner as responses, newest first (one query)
+     */
+    @Query("SELECT new com.bursary.platform.DTOs.FollowResponse(" +
+            "f.id, f.providerId, f.learnerId, CONCAT(l.firstName, ' ', l.lastName), f.notes, f.followedAt) " +
+            "FROM ProviderLearnerFollow f JOIN f.learner l " +
+            "WHERE f.learnerId = :learnerId " +
+            "ORDER BY f.followedAt DESC")
+    List<FollowResponse> findFollowResponsesByLearnerId(@Param("learnerId") Long learnerId);
+
     /**
      * Count followers for a learner
      */
@@ -0,0 +1,27 @@
+package com.bursary.platform.Repositories;
+
+import com.bursary.platform.Entities.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    /**
+     * Find all saved searches of a provider, newest first
+     */
+    List<SavedSearch> findByProviderIdOrderByCreatedAtDesc(Long providerId);
+
+    /**
+     * Find a saved search owned by a provider
+     */
+    Optional<SavedSearch> findByIdAndProviderId(Long id, Long providerId);
+
+    /**
+     * Count saved searches of a provider
+     */
+    long countByProviderId(Long providerId);
+}
@@ -4,6 +4,7 @@ import com.bursary.platform.Entities.SubjectMark;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,6 +15,11 @@ public interface SubjectMarkRepository extends JpaRepository<SubjectMark, Long>
      */
     List<SubjectMark> findByTermResultIdOrderBySubjectNameAsc(Long termResultId);
 
+    /**
+     * Find all subject marks for several term results
+     */
+    List<SubjectMark> findByTermResultIdIn(Collection<Long> termResultIds);
+
     /**
      * Delete all subject marks for a term
      */
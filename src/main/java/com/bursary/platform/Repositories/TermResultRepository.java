@@ -2,6 +2,8 @@ package com.bursary.platform.Repositories;
 
 import com.bursary.platform.Entities.TermResult;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,6 +17,24 @@ public interface TermResultRepository extends JpaRepository<TermResult, Long> {
      */
     List<TermResult> findByAcademicYearIdOrderByTermNumberAsc(Long academicYearId);
 
+    /**
+     * Find all term results of a learner with their subject marks in one query
+     */
+    @Query("SELECT DISTINCT t FROM TermResult t " +
+            "LEFT JOIN FETCH t.subjectMarks " +
+            "WHERE t.academicYear.learnerId = :learnerId " +
+            "ORDER BY t.termNumber ASC")
+    List<TermResult> findByLearnerIdWithSubjectMarks(@Param("learnerId") Long learnerId);
+
+    /**
+     * Find all term results of an academic year with their subject marks in one query
+     */
+    @Query("SELECT DISTINCT t FROM TermResult t " +
+            "LEFT JOIN FETCH t.subjectMarks " +
+            "WHERE t.academicYearId = :academicYearId " +
+            "ORDER BY t.termNumber ASC")
+    List<TermResult> findByAcademicYearIdWithSubjectMarks(@Param("academicYearId") Long academicYearId);
+
     /**
      * Find term result by academic year and term number
      */
@@ -0,0 +1,40 @@
+package com.bursary.platform.Search;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in a provider's application inbox: the (submitted at, application ID)
+ * of the last application on a page. Encoded as an opaque URL-safe token for clients.
+ */
+@Value
+public class ApplicationInboxCursor {
+
+    LocalDateTime submittedAt; // Null when the last application had no submission time
+    long applicationId;
+
+    /**
+     * Decode a client token, rejecting anything that was not produced by encode()
+     */
+    public static ApplicationInboxCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid inbox cursor");
+            }
+            return new ApplicationInboxCursor(parts[0].isEmpty() ? null : LocalDateTime.parse(parts[0]),
+                    Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid inbox cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = (submittedAt != null ? submittedAt.toString() : "") + "|" + applicationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
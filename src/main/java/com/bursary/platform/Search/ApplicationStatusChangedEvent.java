@@ -0,0 +1,16 @@
+package com.bursary.platform.Search;
+
+import lombok.Value;
+
+/**
+ * Published inside the transaction when an application is created, moves to another
+ * status or is withdrawn. A null previous status means the application is new; a null
+ * status means it was deleted.
+ */
+@Value
+public class ApplicationStatusChangedEvent {
+
+    Long providerId;
+    String previousStatus;
+    String status;
+}
@@ -0,0 +1,13 @@
+package com.bursary.platform.Search;
+
+import lombok.Value;
+
+/**
+ * Published after a new catalog snapshot has been swapped in
+ */
+@Value
+public class BursaryCatalogChangedEvent {
+
+    BursaryCatalogSnapshot previous;
+    BursaryCatalogSnapshot current;
+}
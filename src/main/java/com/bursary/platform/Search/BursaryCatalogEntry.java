@@ -0,0 +1,47 @@
+package com.bursary.platform.Search;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of a bursary with its provider fields embedded, as held by the catalog snapshot
+ */
+@Value
+@Builder
+public class BursaryCatalogEntry {
+
+    Long id;
+    String title;
+    String description;
+    BigDecimal amount;
+    LocalDate applicationDeadline;
+    boolean active;
+    String criteria;
+    String criteriaText; // Text values of the criteria JSON, for keyword search
+    BursaryEligibility eligibility; // Compiled from criteria
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+
+    Long providerId;
+    String providerName;
+    String providerType;
+    String providerLocation;
+
+    /**
+     * Active with a deadline on or after the given day (a bursary without a deadline is not listed as available)
+     */
+    public boolean isAvailableOn(LocalDate day) {
+        return active && applicationDeadline != null && !applicationDeadline.isBefore(day);
+    }
+
+    /**
+     * Same rule as Bursary.isAvailable(): active and deadline not passed
+     */
+    public boolean isOpenOn(LocalDate day) {
+        return active && (applicationDeadline == null || !applicationDeadline.isBefore(day));
+    }
+}
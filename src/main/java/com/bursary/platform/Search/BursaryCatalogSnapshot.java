@@ -0,0 +1,97 @@
+package com.bursary.platform.Search;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Immutable view of the whole bursary catalog. A new snapshot is built on every refresh
+ * and swapped in atomically, so readers never lock and never see a partial update.
+ * Active bursaries are pre-sorted by deadline (bursaries without a deadline last),
+ * and a keyword index over all bursaries is built alongside.
+ */
+public final class BursaryCatalogSnapshot {
+
+    private static final Comparator<BursaryCatalogEntry> BY_DEADLINE = Comparator
+            .comparing(BursaryCatalogEntry::getApplicationDeadline, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(BursaryCatalogEntry::getId);
+
+    public static final BursaryCatalogSnapshot EMPTY = new BursaryCatalogSnapshot(0, "empty", List.of(), LocalDateTime.MIN);
+
+    private final long version;
+    private final String contentTag;
+    private final LocalDateTime loadedAt;
+    private final Map<Long, BursaryCatalogEntry> byId;
+    private final List<BursaryCatalogEntry> activeByDeadline;
+    private final BursaryKeywordIndex keywordIndex;
+
+    public BursaryCatalogSnapshot(long version, String contentTag, Collection<BursaryCatalogEntry> entries,
+                                  LocalDateTime loadedAt) {
+        Map<Long, BursaryCatalogEntry> entriesById = new HashMap<>();
+        entries.forEach(entry -> entriesById.put(entry.getId(), entry));
+
+        this.version = version;
+        this.contentTag = contentTag;
+        this.loadedAt = loadedAt;
+        this.byId = Collections.unmodifiableMap(entriesById);
+        this.activeByDeadline = entries.stream()
+                .filter(BursaryCatalogEntry::isActive)
+                .sorted(BY_DEADLINE)
+                .toList();
+        this.keywordIndex = new BursaryKeywordIndex(entries);
+    }
+
+    /**
+     * Incremented on every swap; identifies the snapshot within this process only
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Derived from the persisted rows the snapshot was built from, so it is stable
+     * across restarts and instances (use this, not the version, in ETags)
+     */
+    public String getContentTag() {
+        return contentTag;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    public Optional<BursaryCatalogEntry> find(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * Every bursary in the catalog, active or not
+     */
+    public Collection<BursaryCatalogEntry> getAll() {
+        return byId.values();
+    }
+
+    /**
+     * Active bursaries ordered by deadline
+     */
+    public List<BursaryCatalogEntry> getActive() {
+        return activeByDeadline;
+    }
+
+    /**
+     * Active bursaries still open on the given day, ordered by deadline
+     */
+    public List<BursaryCatalogEntry> getAvailable(LocalDate day) {
+        return activeByDeadline.stream()
+                .filter(entry -> entry.isAvailableOn(day))
+                .toList();
+    }
+
+    public BursaryKeywordIndex getKeywordIndex() {
+        return keywordIndex;
+    }
+
+    public long getActiveCount() {
+        return activeByDeadline.size();
+    }
+}
@@ -0,0 +1,265 @@
+package com.bursary.platform.Search;
+
+import com.bursary.platform.Services.LearnerSearchSummaryService;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Eligibility rules of a bursary, compiled once from its criteria JSON when the catalog
+ * is built. Recognised keys (unknown keys are ignored):
+ * <pre>
+ * {
+ *   "minAverage": 70,                                  // overall average, also "minAverageMark"
+ *   "requiredSubjects": ["Mathematics", "Physical Sciences"]
+ *                    or [{"subject": "Mathematics", "minMark": 60}]
+ *                    or {"Mathematics": 60},
+ *   "maxHouseholdIncome": 350000,                      // also "maxIncome"
+ *   "gradeLevels": [11, 12],                           // also a single "gradeLevel"
+ *   "locations": ["Gauteng", "Durban"]                 // any one; also "location", "provinces"
+ * }
+ * </pre>
+ * Matching is strict: a learner who has not supplied a value a rule depends on (e.g.
+ * household income) does not qualify under that rule.
+ */
+public final class BursaryEligibility {
+
+    /**
+     * Criteria without any recognised rule: every learner qualifies
+     */
+    public static final BursaryEligibility OPEN = new BursaryEligibility(
+            Long.MIN_VALUE, new String[0], new long[0], Long.MAX_VALUE, 0L, List.of(), true);
+
+    /**
+     * Criteria that could not be read: no learner is shown as qualifying
+     */
+    public static final BursaryEligibility UNREADABLE = new BursaryEligibility(
+            Long.MIN_VALUE, new String[0], new long[0], Long.MAX_VALUE, 0L, List.of(), false);
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final long minAverage; // Hundredths
+    private final String[] subjectKeys; // Normalized subject names
+    private final long[] subjectMinMarks; // Hundredths, parallel to subjectKeys
+    private final long maxIncome; // Cents
+    private final long gradeMask; // Bit per allowed grade level, 0 = any
+    private final List<Set<String>> locations; // Canonical tokens per allowed location, empty = any
+    private final boolean readable;
+
+    private BursaryEligibility(long minAverage, String[] subjectKeys, long[] subjectMinMarks, long maxIncome,
+                               long gradeMask, List<Set<String>> locations, boolean readable) {
+        this.minAverage = minAverage;
+        this.subjectKeys = subjectKeys;
+        this.subjectMinMarks = subjectMinMarks;
+        this.maxIncome = maxIncome;
+        this.gradeMask = gradeMask;
+        this.locations = locations;
+        this.readable = readable;
+    }
+
+    /**
+     * Compile parsed criteria JSON (null or non-object criteria place no restriction)
+     *
+     * @throws IllegalArgumentException if a recognised rule has an unusable value
+     */
+    public static BursaryEligibility compile(JsonNode criteria) {
+        if (criteria == null || !criteria.isObject()) {
+            return OPEN;
+        }
+
+        long minAverage = NONE;
+        JsonNode average = first(criteria, "minAverage", "minAverageMark");
+        if (average != null) {
+            minAverage = FixedPoint.ceilHundredths(decimal(average, "minAverage"));
+        }
+
+        Map<String, Long> subjects = new TreeMap<>();
+        JsonNode required = criteria.get("requiredSubjects");
+        if (required != null && required.isArray()) {
+            for (JsonNode subject : required) {
+                if (subject.isTextual()) {
+                    addSubject(subjects, subject.asText(), 0L);
+                } else if (subject.isObject()) {
+                    JsonNode name = first(subject, "subject", "subjectName", "name");
+                    JsonNode minMark = first(subject, "minMark", "mark");
+                    if (name == null || !name.isTextual()) {
+                        throw new IllegalArgumentException("requiredSubjects entries need a subject name");
+                    }
+                    addSubject(subjects, name.asText(),
+                            minMark != null ? FixedPoint.ceilHundredths(decimal(minMark, "minMark")) : 0L);
+                }
+            }
+        } else if (required != null && required.isObject()) {
+            required.properties().forEach(subject -> addSubject(subjects, subject.getKey(),
+                    FixedPoint.ceilHundredths(decimal(subject.getValue(), "requiredSubjects"))));
+        }
+
+        long maxIncome = Long.MAX_VALUE;
+        JsonNode income = first(criteria, "maxHouseholdIncome", "maxIncome");
+        if (income != null) {
+            maxIncome = FixedPoint.floorHundredths(decimal(income, "maxHouseholdIncome"));
+        }
+
+        long gradeMask = 0L;
+        JsonNode grades = first(criteria, "gradeLevels", "gradeLevel");
+        if (grades != null) {
+            for (JsonNode grade : elements(grades)) {
+                if (!grade.canConvertToInt() || grade.asInt() < 0 || grade.asInt() >= Long.SIZE) {
+                    throw new IllegalArgumentException("Invalid grade level: " + grade);
+                }
+                gradeMask |= 1L << grade.asInt();
+            }
+        }
+
+        List<Set<String>> locations = new ArrayList<>();
+        JsonNode places = first(criteria, "locations", "location", "provinces");
+        if (places != null) {
+            for (JsonNode place : elements(places)) {
+                Set<String> tokens = LocationNormalizer.tokenize(place.asText());
+                if (!tokens.isEmpty()) {
+                    locations.add(tokens);
+                }
+            }
+        }
+
+        if (minAverage == NONE && subjects.isEmpty() && maxIncome == Long.MAX_VALUE
+                && gradeMask == 0L && locations.isEmpty()) {
+            return OPEN;
+        }
+
+        return new BursaryEligibility(
+                minAverage,
+                subjects.keySet().toArray(new String[0]),
+                subjects.values().stream().mapToLong(Long::longValue).toArray(),
+                maxIncome,
+                gradeMask,
+                List.copyOf(locations),
+                true
+        );
+    }
+
+    /**
+     * Whether the learner meets every rule
+     */
+    public boolean matches(Applicant applicant) {
+        if (!readable) return false;
+        if (minAverage != NONE && (applicant.average == NONE || applicant.average < minAverage)) return false;
+        if (maxIncome != Long.MAX_VALUE && (applicant.income == NONE || applicant.income > maxIncome)) return false;
+        if (gradeMask != 0L && (applicant.gradeLevel < 0 || applicant.gradeLevel >= Long.SIZE
+                || (gradeMask & (1L << applicant.gradeLevel)) == 0)) return false;
+
+        for (int i = 0; i < subjectKeys.length; i++) {
+            Long mark = applicant.subjectMarks.get(subjectKeys[i]);
+            if (mark == null || mark < subjectMinMarks[i]) return false;
+        }
+
+        if (!locations.isEmpty()) {
+            boolean anyLocation = false;
+            for (Set<String> tokens : locations) {
+                if (applicant.locationTokens.containsAll(tokens)) {
+                    anyLocation = true;
+                    break;
+                }
+            }
+            if (!anyLocation) return false;
+        }
+
+        return true;
+    }
+
+    public boolean isReadable() {
+        return readable;
+    }
+
+    /**
+     * Number of rules a learner must meet (subjects count individually)
+     */
+    public int ruleCount() {
+        return (minAverage != NONE ? 1 : 0)
+                + subjectKeys.length
+                + (maxIncome != Long.MAX_VALUE ? 1 : 0)
+                + (gradeMask != 0L ? 1 : 0)
+                + (locations.isEmpty() ? 0 : 1);
+    }
+
+    // ========== Helper Methods ==========
+
+    private static JsonNode first(JsonNode node, String... names) {
+        for (String name : names) {
+            JsonNode value = node.get(name);
+            if (value != null && !value.isNull()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Array elements, or the value itself when a single value was given
+     */
+    private static List<JsonNode> elements(JsonNode value) {
+        List<JsonNode> elements = new ArrayList<>();
+        if (value.isArray()) {
+            value.forEach(elements::add);
+        } else {
+            elements.add(value);
+        }
+        return elements;
+    }
+
+    private static BigDecimal decimal(JsonNode value, String rule) {
+        if (value.isNumber()) {
+            return value.decimalValue();
+        }
+        try {
+            return new BigDecimal(value.asText().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + rule + ": " + value);
+        }
+    }
+
+    private static void addSubject(Map<String, Long> subjects, String name, long minMark) {
+        if (name != null && !name.isBlank()) {
+            subjects.merge(LearnerSearchSummaryService.normalizeSubject(name), minMark, Math::max);
+        }
+    }
+
+    /**
+     * A learner's search document reduced to the values the rules compare, computed
+     * once per evaluation so checking every bursary allocates nothing
+     */
+    public static final class Applicant {
+
+        private final long average;
+        private final long income;
+        private final int gradeLevel;
+        private final Map<String, Long> subjectMarks;
+        private final Set<String> locationTokens;
+
+        private Applicant(long average, long income, int gradeLevel,
+                          Map<String, Long> subjectMarks, Set<String> locationTokens) {
+            this.average = average;
+            this.income = income;
+            this.gradeLevel = gradeLevel;
+            this.subjectMarks = subjectMarks;
+            this.locationTokens = locationTokens;
+        }
+
+        public static Applicant of(LearnerSearchDocument document) {
+            Map<String, Long> subjectMarks = new HashMap<>();
+            if (document.getSubjectBestMarks() != null) {
+                document.getSubjectBestMarks().forEach((subjectKey, mark) ->
+                        subjectMarks.put(subjectKey, FixedPoint.toHundredths(mark)));
+            }
+
+            return new Applicant(
+                    document.getOverallAverage() != null ? FixedPoint.toHundredths(document.getOverallAverage()) : NONE,
+                    document.getHouseholdIncome() != null ? FixedPoint.toHundredths(document.getHouseholdIncome()) : NONE,
+                    document.getGradeLevel() != null ? document.getGradeLevel() : -1,
+                    subjectMarks,
+                    LocationNormalizer.tokenize(document.getLocation())
+            );
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.bursary.platform.Search;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.*;
+
+/**
+ * Immutable inverted index over bursary title, description and criteria text, built
+ * with each catalog snapshot. Terms are kept sorted so every query token is a prefix
+ * range lookup ("engin" finds "engineer" and "engineering"). All query tokens must
+ * match; results are ranked by TF-IDF, with title hits and exact term hits weighted
+ * above description/criteria hits and prefix hits.
+ */
+public final class BursaryKeywordIndex {
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float BODY_WEIGHT = 1f;
+    private static final float PREFIX_PENALTY = 0.5f;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is",
+            "of", "on", "or", "the", "to", "with");
+
+    private final long[] bursaryIds;
+    private final String[] terms;
+    private final int[][] postings; // term -> document positions (into bursaryIds)
+    private final float[][] weights; // term -> weight per posting (tf * idf)
+
+    public BursaryKeywordIndex(Collection<BursaryCatalogEntry> entries) {
+        bursaryIds = new long[entries.size()];
+        Map<String, Map<Integer, Float>> termFrequencies = new HashMap<>();
+
+        int document = 0;
+        for (BursaryCatalogEntry entry : entries) {
+            bursaryIds[document] = entry.getId();
+            addText(termFrequencies, document, entry.getTitle(), TITLE_WEIGHT);
+            addText(termFrequencies, document, entry.getDescription(), BODY_WEIGHT);
+            addText(termFrequencies, document, entry.getCriteriaText(), BODY_WEIGHT);
+            document++;
+        }
+
+        terms = termFrequencies.keySet().toArray(new String[0]);
+        Arrays.sort(terms);
+        postings = new int[terms.length][];
+        weights = new float[terms.length][];
+
+        for (int t = 0; t < terms.length; t++) {
+            Map<Integer, Float> frequencies = termFrequencies.get(terms[t]);
+            float idf = (float) Math.log(1.0 + (double) bursaryIds.length / frequencies.size());
+
+            postings[t] = new int[frequencies.size()];
+            weights[t] = new float[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<Integer, Float> posting : frequencies.entrySet()) {
+                postings[t][i] = posting.getKey();
+                weights[t][i] = posting.getValue() * idf;
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Split text into lower-case index terms (stop words and single characters dropped)
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() >= MIN_TOKEN_LENGTH && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Searchable text of parsed criteria: its string values plus the subject names keying a
+     * requiredSubjects object. Field names, numbers and JSON punctuation are left out, so
+     * "minAverage" or "70" do not match every bursary with criteria.
+     */
+    public static String criteriaText(JsonNode criteria) {
+        StringBuilder text = new StringBuilder();
+        appendTextValues(criteria, null, text);
+        return text.toString();
+    }
+
+    /**
+     * Bursary IDs matching every token of the query, best match first.
+     * A query without usable tokens matches nothing.
+     */
+    public List<Long> search(String query) {
+        List<String> tokens = tokenize(query);
+
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        float[] scores = null;
+        for (String token : new LinkedHashSet<>(tokens)) {
+            float[] tokenScores = scoreToken(token);
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                for (int document = 0; document < scores.length; document++) {
+                    // AND: a document missing any token drops out
+                    scores[document] = scores[document] > 0 && tokenScores[document] > 0
+                            ? scores[document] + tokenScores[document]
+                            : 0;
+                }
+            }
+        }
+
+        List<Integer> matches = new ArrayList<>();
+        for (int document = 0; document < scores.length; document++) {
+            if (scores[document] > 0) {
+                matches.add(document);
+            }
+        }
+
+        float[] finalScores = scores;
+        matches.sort((left, right) -> {
+            int byScore = Float.compare(finalScores[right], finalScores[left]);
+            return byScore != 0 ? byScore : Long.compare(bursaryIds[left], bursaryIds[right]);
+        });
+
+        return matches.stream()
+                .map(document -> bursaryIds[document])
+                .toList();
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * Best weight per document over all terms starting with the token
+     */
+    private float[] scoreToken(String token) {
+        float[] scores = new float[bursaryIds.length];
+
+        int from = lowerBound(token);
+        int to = lowerBound(token + Character.MAX_VALUE);
+
+        for (int t = from; t < to; t++) {
+            float factor = terms[t].equals(token) ? 1f : PREFIX_PENALTY;
+            for (int i = 0; i < postings[t].length; i++) {
+                int document = postings[t][i];
+                scores[document] = Math.max(scores[document], weights[t][i] * factor);
+            }
+        }
+
+        return scores;
+    }
+
+    /**
+     * First term position not less than the key
+     */
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void appendTextValues(JsonNode node, String fieldName, StringBuilder text) {
+        if (node.isTextual()) {
+            text.append(node.asText()).append(' ');
+        } else if (node.isArray()) {
+            node.forEach(element -> appendTextValues(element, fieldName, text));
+        } else if (node.isObject()) {
+            node.properties().forEach(field -> {
+                if ("requiredSubjects".equals(fieldName)) {
+                    text.append(field.getKey()).append(' ');
+                }
+                appendTextValues(field.getValue(), field.getKey(), text);
+            });
+        }
+    }
+
+    private static void addText(Map<String, Map<Integer, Float>> termFrequencies, int document,
+                                String text, float weight) {
+        for (String token : tokenize(text)) {
+            termFrequencies.computeIfAbsent(token, key -> new HashMap<>()).merge(document, weight, Float::sum);
+        }
+    }
+}
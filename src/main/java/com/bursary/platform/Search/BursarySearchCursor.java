@@ -0,0 +1,41 @@
+package com.bursary.platform.Search;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last result of a bursary search page: the sort it belongs to,
+ * that result's sort value and ID (or its offset for relevance order), and the total
+ * match count from the first page so later pages need no count query.
+ */
+@Value
+public class BursarySearchCursor {
+
+    String sort; // e.g. "deadline:asc", or "relevance"
+    String value; // Sort value of the last result, null when it had none
+    long position; // Bursary ID, or result offset for relevance order
+    long total;
+
+    /**
+     * Decode a client token, rejecting anything that was not produced by encode()
+     */
+    public static BursarySearchCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid search cursor");
+            }
+            return new BursarySearchCursor(parts[0], parts[1].isEmpty() ? null : parts[1],
+                    Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid search cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = sort + "|" + (value != null ? value : "") + "|" + position + "|" + total;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
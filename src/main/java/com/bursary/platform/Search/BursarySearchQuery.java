@@ -0,0 +1,29 @@
+package com.bursary.platform.Search;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Resolved bursary search filters and ordering, as handed to the repository.
+ * Null filters are left out of the generated query.
+ */
+@Value
+@Builder
+public class BursarySearchQuery {
+
+    Collection<Long> bursaryIds; // Keyword matches
+    Collection<Long> providerIds; // Providers matching the location filter
+    BigDecimal minAmount;
+    BigDecimal maxAmount;
+    String providerType;
+    Boolean isActive;
+    LocalDate deadlineAfter;
+    LocalDate deadlineBefore;
+
+    BursarySortField sortField; // Null orders by ID
+    boolean descending;
+}
@@ -0,0 +1,92 @@
+package com.bursary.platform.Search;
+
+import com.bursary.platform.DTOs.BursarySummaryRow;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Columns bursary search can order by. Each is paired with the bursary ID as a tie-breaker
+ * so keyset pagination has a unique position; rows without a value sort last.
+ */
+public enum BursarySortField {
+
+    DEADLINE("deadline", "b.applicationDeadline") {
+        @Override
+        public String valueOf(BursarySummaryRow bursary) {
+            return bursary.getApplicationDeadline() != null ? bursary.getApplicationDeadline().toString() : null;
+        }
+
+        @Override
+        public Object parse(String value) {
+            return LocalDate.parse(value);
+        }
+    },
+    AMOUNT("amount", "b.amount") {
+        @Override
+        public String valueOf(BursarySummaryRow bursary) {
+            return bursary.getAmount() != null ? bursary.getAmount().toPlainString() : null;
+        }
+
+        @Override
+        public Object parse(String value) {
+            return new BigDecimal(value);
+        }
+    },
+    CREATED_AT("createdAt", "b.createdAt") {
+        @Override
+        public String valueOf(BursarySummaryRow bursary) {
+            return bursary.getCreatedAt() != null ? bursary.getCreatedAt().toString() : null;
+        }
+
+        @Override
+        public Object parse(String value) {
+            return LocalDateTime.parse(value);
+        }
+    };
+
+    private final String name;
+    private final String path;
+
+    BursarySortField(String name, String path) {
+        this.name = name;
+        this.path = path;
+    }
+
+    /**
+     * Sort field for a request parameter (case insensitive)
+     *
+     * @throws IllegalArgumentException for an unsupported field
+     */
+    public static BursarySortField from(String sortBy) {
+        for (BursarySortField field : values()) {
+            if (field.name.toLowerCase(Locale.ROOT).equals(sortBy.toLowerCase(Locale.ROOT))) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sortBy: " + sortBy + " (use amount, deadline or createdAt)");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * JPQL path of the column
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * The bursary's value for this field as stored in a cursor (null when unset)
+     */
+    public abstract String valueOf(BursarySummaryRow bursary);
+
+    /**
+     * A cursor value back to the column type
+     */
+    public abstract Object parse(String value);
+}
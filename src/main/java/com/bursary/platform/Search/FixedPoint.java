@@ -0,0 +1,51 @@
+package com.bursary.platform.Search;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point helpers for search scoring. Marks are held as hundredths and amounts as
+ * cents in primitive ints/longs, so filtering and ranking never allocate; BigDecimal
+ * is only produced when results are handed back to callers.
+ */
+public final class FixedPoint {
+
+    private FixedPoint() {
+    }
+
+    /**
+     * Value (scale 2 or finer) in hundredths, rounded half up
+     */
+    public static long toHundredths(BigDecimal value) {
+        return value.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    /**
+     * Smallest hundredths value that satisfies "value >= threshold"
+     */
+    public static long ceilHundredths(BigDecimal threshold) {
+        return threshold.movePointRight(2).setScale(0, RoundingMode.CEILING).longValue();
+    }
+
+    /**
+     * Largest hundredths value that satisfies "value <= limit"
+     */
+    public static long floorHundredths(BigDecimal limit) {
+        return limit.movePointRight(2).setScale(0, RoundingMode.FLOOR).longValue();
+    }
+
+    /**
+     * Hundredths back to a scale-2 BigDecimal
+     */
+    public static BigDecimal toDecimal(long hundredths) {
+        return BigDecimal.valueOf(hundredths, 2);
+    }
+
+    /**
+     * Mean of non-negative hundredths values rounded half up, matching
+     * {@code sum.divide(count, 2, HALF_UP)} on the decimal values
+     */
+    public static long average(long sum, int count) {
+        return (2 * sum + count) / (2L * count);
+    }
+}
@@ -0,0 +1,19 @@
+package com.bursary.platform.Search;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Published when a learner updates the profile fields shown in search results
+ */
+@Value
+public class LearnerProfileChangedEvent {
+
+    Long learnerId;
+    String firstName;
+    String lastName;
+    String schoolName;
+    String location;
+    BigDecimal householdIncome;
+}
@@ -0,0 +1,55 @@
+package com.bursary.platform.Search;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in learner search results: the (overall average, learner ID) of the
+ * last result on a page. Encoded as an opaque URL-safe token for clients.
+ */
+@Value
+public class LearnerSearchCursor {
+
+    int overallAverage; // Hundredths of a mark
+    long learnerId;
+
+    public static LearnerSearchCursor of(BigDecimal overallAverage, Long learnerId) {
+        return new LearnerSearchCursor(
+                (int) FixedPoint.toHundredths(overallAverage),
+                learnerId);
+    }
+
+    /**
+     * Decode a client token, rejecting anything that was not produced by encode()
+     */
+    public static LearnerSearchCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid search cursor");
+            }
+            return new LearnerSearchCursor(Integer.parseInt(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid search cursor");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((overallAverage + ":" + learnerId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public BigDecimal getOverallAverageValue() {
+        return FixedPoint.toDecimal(overallAverage);
+    }
+
+    /**
+     * Whether a result ranks after this position (average descending, learner ID ascending)
+     */
+    public boolean precedes(int otherAverage, long otherLearnerId) {
+        return otherAverage < overallAverage || (otherAverage == overallAverage && otherLearnerId > learnerId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.bursary.platform.Search;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Searchable view of a learner: profile fields plus the academic summary of the latest year
+ */
+@Value
+@Builder(toBuilder = true)
+public class LearnerSearchDocument {
+
+    Long learnerId;
+    String firstName;
+    String lastName;
+    String schoolName;
+    String location;
+    BigDecimal householdIncome;
+
+    // Academic summary (latest academic year)
+    Integer gradeLevel;
+    Integer year;
+    BigDecimal overallAverage;
+    BigDecimal highestTermAverage;
+    Map<String, BigDecimal> subjectBestMarks; // normalized subject name -> best mark
+}
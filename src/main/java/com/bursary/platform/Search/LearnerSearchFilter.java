@@ -0,0 +1,83 @@
+package com.bursary.platform.Search;
+
+import com.bursary.platform.DTOs.LearnerSearchRequest;
+import com.bursary.platform.DTOs.SubjectThreshold;
+import com.bursary.platform.Services.LearnerSearchSummaryService;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Canonical form of a learner search: marks in hundredths, income in cents, location
+ * reduced to canonical place tokens and subject names normalized. Requests that
+ * select the same learners compare equal, so a filter doubles as a cache key.
+ */
+@Value
+public class LearnerSearchFilter {
+
+    Integer gradeLevel;
+    Integer year;
+    Long minAverage; // Hundredths, smallest value satisfying the minimum
+    Long maxIncome; // Cents, largest value satisfying the maximum
+    SortedSet<String> locationTokens; // Canonical place tokens, all required
+    SortedMap<String, Long> minSubjectMarks; // Normalized subject -> hundredths
+
+    public static LearnerSearchFilter from(LearnerSearchRequest request) {
+        SortedMap<String, Long> minSubjectMarks = new TreeMap<>();
+
+        // A repeated subject keeps its strictest threshold
+        for (SubjectThreshold threshold : request.resolveSubjectThresholds()) {
+            if (threshold.getSubjectName() == null || threshold.getMinMark() == null) {
+                continue;
+            }
+            minSubjectMarks.merge(
+                    LearnerSearchSummaryService.normalizeSubject(threshold.getSubjectName()),
+                    Math.max(0, FixedPoint.ceilHundredths(threshold.getMinMark())),
+                    Math::max
+            );
+        }
+
+        Set<String> locationTokens = LocationNormalizer.tokenize(request.getLocation());
+
+        return new LearnerSearchFilter(
+                request.getGradeLevel(),
+                request.getYear(),
+                request.getMinAverageMark() != null ? FixedPoint.ceilHundredths(request.getMinAverageMark()) : null,
+                request.getMaxHouseholdIncome() != null ? FixedPoint.floorHundredths(request.getMaxHouseholdIncome()) : null,
+                locationTokens.isEmpty() ? null : Collections.unmodifiableSortedSet(new TreeSet<>(locationTokens)),
+                Collections.unmodifiableSortedMap(minSubjectMarks)
+        );
+    }
+
+    /**
+     * Whether a learner's document satisfies this filter. Learners without a location
+     * or household income are not excluded by those filters.
+     */
+    public boolean matches(LearnerSearchDocument document) {
+        if (gradeLevel != null && !gradeLevel.equals(document.getGradeLevel())) return false;
+        if (year != null && !year.equals(document.getYear())) return false;
+        if (minAverage != null && FixedPoint.toHundredths(document.getOverallAverage()) < minAverage) return false;
+        if (maxIncome != null && document.getHouseholdIncome() != null
+                && FixedPoint.toHundredths(document.getHouseholdIncome()) > maxIncome) return false;
+        if (locationTokens != null && document.getLocation() != null
+                && !LocationNormalizer.matches(locationTokens, document.getLocation())) return false;
+
+        for (Map.Entry<String, Long> threshold : minSubjectMarks.entrySet()) {
+            BigDecimal mark = document.getSubjectBestMarks() != null
+                    ? document.getSubjectBestMarks().get(threshold.getKey())
+                    : null;
+            if (mark == null || FixedPoint.toHundredths(mark) < threshold.getValue()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,16 @@
+package com.bursary.platform.Search;
+
+import com.bursary.platform.DTOs.LearnerSearchFacets;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Ranked documents for one page of a learner search, plus facet counts when requested
+ */
+@Value
+public class LearnerSearchHits {
+
+    List<LearnerSearchDocument> documents;
+    LearnerSearchFacets facets;
+}
@@ -0,0 +1,602 @@
+package com.bursary.platform.Search;
+
+import org.springframework.stereotype.Component;
+
+import com.bursary.platform.DTOs.LearnerSearchFacets;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory columnar index of searchable learners.
+ *
+ * Each learner occupies one row across parallel primitive arrays (grade, year,
+ * averages in hundredths, income in cents, dictionary-encoded location) so a
+ * search is a tight scan over contiguous memory instead of a walk over JPA
+ * entities and BigDecimals. Rows are kept dense: removing a learner moves the
+ * last row into the freed slot. Subject thresholds are answered by the subject
+ * mark index first, so only rows of learners meeting them are scanned.
+ */
+@Component
+public class LearnerSearchIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int ANY = Integer.MIN_VALUE;
+    private static final int NO_LOCATION = -1;
+    private static final long NO_INCOME = Long.MIN_VALUE;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> rowByLearnerId = new HashMap<>();
+
+    // Location dictionary: code -> original value, plus place token / word -> codes of locations carrying it
+    private final List<String> locationValues = new ArrayList<>();
+    private final Map<String, Integer> locationCodes = new HashMap<>();
+    private final Map<String, BitSet> locationCodesByToken = new HashMap<>();
+    private final NavigableMap<String, BitSet> locationCodesByWord = new TreeMap<>(); // Sorted for prefix lookups
+    private final List<String> locationProvinces = new ArrayList<>(); // code -> province slug or "other"
+
+    // Best marks (hundredths) per normalized subject name, keyed by learner ID
+    private final SubjectMarkIndex subjectIndex = new SubjectMarkIndex();
+
+    // Learners patched while a full load was reading from the database
+    private final Set<Long> patchedDuringLoad = new HashSet<>();
+    // Profile changes of learners not yet indexed while a full load was running
+    private final Map<Long, LearnerProfileChangedEvent> profilesDuringLoad = new HashMap<>();
+    private boolean loading;
+    private volatile boolean ready;
+
+    private int size;
+    private long[] learnerIds;
+    private int[] gradeLevels;
+    private int[] years;
+    private int[] overallAverages;
+    private int[] highestTermAverages;
+    private long[] householdIncomes;
+    private int[] locations;
+    private String[] firstNames;
+    private String[] lastNames;
+    private String[] schoolNames;
+
+    public LearnerSearchIndex() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Whether the index has completed its initial load
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Number of searchable learners
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed learners holding a mark in the subject (normalized name)
+     */
+    public int countLearnersWithSubject(String subjectKey) {
+        lock.readLock().lock();
+        try {
+            return subjectIndex.holderCount(subjectKey);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * IDs of all indexed learners
+     */
+    public long[] learnerIds() {
+        lock.readLock().lock();
+        try {
+            return Arrays.copyOf(learnerIds, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mark the start of a full load; patches applied from now on win over loaded documents
+     */
+    public void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            loading = true;
+            patchedDuringLoad.clear();
+            profilesDuringLoad.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the index contents with the given documents
+     */
+    public void load(Collection<LearnerSearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            // Keep learners that were patched while the documents were being read
+            List<LearnerSearchDocument> patched = new ArrayList<>();
+            for (Long learnerId : patchedDuringLoad) {
+                Integer row = rowByLearnerId.get(learnerId);
+                if (row != null) {
+                    patched.add(documentAt(row, true));
+                }
+            }
+
+            rowByLearnerId.clear();
+            locationValues.clear();
+            locationCodes.clear();
+            locationCodesByToken.clear();
+            locationCodesByWord.clear();
+            locationProvinces.clear();
+            subjectIndex.clear();
+            size = 0;
+            allocate(Math.max(INITIAL_CAPACITY, documents.size() + patched.size()));
+
+            for (LearnerSearchDocument document : documents) {
+                if (!patchedDuringLoad.contains(document.getLearnerId())) {
+                    int row = appendRow(document.getLearnerId());
+                    writeRow(row, document);
+
+                    // The document may have been read before a profile change committed
+                    LearnerProfileChangedEvent profile = profilesDuringLoad.get(document.getLearnerId());
+                    if (profile != null) {
+                        writeProfile(row, profile);
+                    }
+                }
+            }
+            for (LearnerSearchDocument document : patched) {
+                writeRow(appendRow(document.getLearnerId()), document);
+            }
+
+            loading = false;
+            patchedDuringLoad.clear();
+            profilesDuringLoad.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Insert or replace a learner's document
+     */
+    public void upsert(LearnerSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowByLearnerId.get(document.getLearnerId());
+            writeRow(row != null ? row : appendRow(document.getLearnerId()), document);
+            trackPatch(document.getLearnerId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a recomputed academic summary. An indexed learner keeps its profile columns:
+     * the document's profile fields may predate a profile change already applied here.
+     */
+    public void upsertAcademics(LearnerSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowByLearnerId.get(document.getLearnerId());
+            if (row == null) {
+                writeRow(appendRow(document.getLearnerId()), document);
+            } else {
+                writeAcademics(row, document);
+            }
+            trackPatch(document.getLearnerId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Update profile columns of an indexed learner (no-op if the learner is not searchable).
+     * During a full load the change is also kept for a learner not indexed yet, and
+     * applied over the loaded document, which may predate it.
+     */
+    public void updateProfile(LearnerProfileChangedEvent profile) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowByLearnerId.get(profile.getLearnerId());
+            if (row == null) {
+                if (loading) {
+                    profilesDuringLoad.put(profile.getLearnerId(), profile);
+                }
+                return;
+            }
+
+            writeProfile(row, profile);
+            trackPatch(profile.getLearnerId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a learner from the index
+     */
+    public void remove(Long learnerId) {
+        lock.writeLock().lock();
+        try {
+            trackPatch(learnerId);
+
+            Integer row = rowByLearnerId.remove(learnerId);
+            if (row == null) {
+                return;
+            }
+
+            int last = size - 1;
+            if (row != last) {
+                moveRow(last, row);
+                rowByLearnerId.put(learnerIds[row], row);
+            }
+            clearRow(last);
+            subjectIndex.remove(learnerId);
+            size--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Current document of an indexed learner, including subject marks
+     */
+    public Optional<LearnerSearchDocument> find(Long learnerId) {
+        lock.readLock().lock();
+        try {
+            Integer row = rowByLearnerId.get(learnerId);
+            return row != null ? Optional.of(documentAt(row, true)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the best-ranked learners matching the criteria that come after the cursor.
+     * Only the top {@code limit} rows are retained while scanning (bounded heap), so
+     * memory and sorting cost depend on the page size rather than the match count.
+     * Facets, when requested, are counted over every match in the same scan.
+     */
+    public LearnerSearchHits search(LearnerSearchFilter filter, LearnerSearchCursor after, int limit, boolean includeFacets) {
+        lock.readLock().lock();
+        try {
+            int gradeLevel = filter.getGradeLevel() != null ? filter.getGradeLevel() : ANY;
+            int year = filter.getYear() != null ? filter.getYear() : ANY;
+            long minAverage = filter.getMinAverage() != null ? filter.getMinAverage() : Long.MIN_VALUE;
+            long maxIncome = filter.getMaxIncome() != null ? filter.getMaxIncome() : Long.MAX_VALUE;
+            BitSet locationMatches = filter.getLocationTokens() != null
+                    ? matchLocations(filter.getLocationTokens())
+                    : null;
+
+            // Subject thresholds narrow the scan to candidate rows (null means scan every row)
+            int[] candidateRows = null;
+            if (!filter.getMinSubjectMarks().isEmpty()) {
+                candidateRows = toRows(subjectIndex.findLearnersMeetingAll(filter.getMinSubjectMarks()));
+            }
+            int scanCount = candidateRows != null ? candidateRows.length : size;
+            FacetCounter facets = includeFacets ? new FacetCounter() : null;
+
+            // Worst-ranked retained row at the head
+            PriorityQueue<Integer> topRows = new PriorityQueue<>(limit + 1, (left, right) -> compareRank(right, left));
+
+            for (int i = 0; i < scanCount; i++) {
+                int row = candidateRows != null ? candidateRows[i] : i;
+
+                if (gradeLevel != ANY && gradeLevels[row] != gradeLevel) continue;
+                if (year != ANY && years[row] != year) continue;
+                if (overallAverages[row] < minAverage) continue;
+                if (householdIncomes[row] != NO_INCOME && householdIncomes[row] > maxIncome) continue;
+                if (locationMatches != null && locations[row] != NO_LOCATION && !locationMatches.get(locations[row])) continue;
+
+                if (facets != null) {
+                    facets.count(gradeLevels[row],
+                            locations[row] != NO_LOCATION ? locationProvinces.get(locations[row]) : "unspecified",
+                            householdIncomes[row], overallAverages[row]);
+                }
+
+                if (after != null && !after.precedes(overallAverages[row], learnerIds[row])) continue;
+
+                if (topRows.size() < limit) {
+                    topRows.offer(row);
+                } else if (compareRank(row, topRows.peek()) < 0) {
+                    topRows.poll();
+                    topRows.offer(row);
+                }
+            }
+
+            List<LearnerSearchDocument> documents = topRows.stream()
+                    .sorted(this::compareRank)
+                    .map(row -> documentAt(row, false))
+                    .toList();
+
+            return new LearnerSearchHits(documents, facets != null ? facets.toFacets() : null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * Ranking order: overall average descending, then learner ID ascending
+     */
+    private int compareRank(int left, int right) {
+        int byAverage = Integer.compare(overallAverages[right], overallAverages[left]);
+        return byAverage != 0 ? byAverage : Long.compare(learnerIds[left], learnerIds[right]);
+    }
+
+    /**
+     * Map learner IDs to their rows, skipping learners that are not indexed
+     */
+    private int[] toRows(long[] learnerIdsToMap) {
+        int[] rows = new int[learnerIdsToMap.length];
+        int count = 0;
+
+        for (long learnerId : learnerIdsToMap) {
+            Integer row = rowByLearnerId.get(learnerId);
+            if (row != null) {
+                rows[count++] = row;
+            }
+        }
+
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Location codes matching every filter token: an intersection of the token postings,
+     * where a text token's posting is the union of the words it prefixes
+     */
+    private BitSet matchLocations(Set<String> tokens) {
+        BitSet matches = null;
+
+        for (String token : tokens) {
+            BitSet codes = token.startsWith(LocationNormalizer.TEXT)
+                    ? matchWordPrefix(token.substring(LocationNormalizer.TEXT.length()))
+                    : locationCodesByToken.get(token);
+            if (codes == null || codes.isEmpty()) {
+                return new BitSet();
+            }
+            if (matches == null) {
+                matches = (BitSet) codes.clone();
+            } else {
+                matches.and(codes);
+            }
+        }
+
+        return matches != null ? matches : new BitSet();
+    }
+
+    /**
+     * Location codes with a word starting with the prefix
+     */
+    private BitSet matchWordPrefix(String prefix) {
+        BitSet codes = new BitSet();
+        for (BitSet wordCodes : locationCodesByWord.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            codes.or(wordCodes);
+        }
+        return codes;
+    }
+
+    private int appendRow(Long learnerId) {
+        if (size == learnerIds.length) {
+            grow(size * 2);
+        }
+
+        int row = size++;
+        learnerIds[row] = learnerId;
+        rowByLearnerId.put(learnerId, row);
+        return row;
+    }
+
+    private void writeRow(int row, LearnerSearchDocument document) {
+        learnerIds[row] = document.getLearnerId();
+        firstNames[row] = document.getFirstName();
+        lastNames[row] = document.getLastName();
+        schoolNames[row] = document.getSchoolName();
+        locations[row] = encodeLocation(document.getLocation());
+        householdIncomes[row] = toCents(document.getHouseholdIncome());
+        writeAcademics(row, document);
+    }
+
+    private void writeAcademics(int row, LearnerSearchDocument document) {
+        gradeLevels[row] = document.getGradeLevel();
+        years[row] = document.getYear();
+        overallAverages[row] = toMark(document.getOverallAverage());
+        highestTermAverages[row] = toMark(document.getHighestTermAverage());
+
+        Map<String, Integer> subjectMarks = new HashMap<>();
+        if (document.getSubjectBestMarks() != null) {
+            document.getSubjectBestMarks().forEach((subjectKey, mark) -> subjectMarks.put(subjectKey, toMark(mark)));
+        }
+        subjectIndex.put(document.getLearnerId(), subjectMarks);
+    }
+
+    private void moveRow(int from, int to) {
+        learnerIds[to] = learnerIds[from];
+        firstNames[to] = firstNames[from];
+        lastNames[to] = lastNames[from];
+        schoolNames[to] = schoolNames[from];
+        locations[to] = locations[from];
+        householdIncomes[to] = householdIncomes[from];
+        gradeLevels[to] = gradeLevels[from];
+        years[to] = years[from];
+        overallAverages[to] = overallAverages[from];
+        highestTermAverages[to] = highestTermAverages[from];
+    }
+
+    private void clearRow(int row) {
+        firstNames[row] = null;
+        lastNames[row] = null;
+        schoolNames[row] = null;
+    }
+
+    private LearnerSearchDocument documentAt(int row, boolean includeSubjects) {
+        Map<String, BigDecimal> subjectBestMarks = new HashMap<>();
+        if (includeSubjects) {
+            subjectIndex.marksOf(learnerIds[row]).forEach((subjectKey, mark) ->
+                    subjectBestMarks.put(subjectKey, FixedPoint.toDecimal(mark)));
+        }
+
+        return LearnerSearchDocument.builder()
+                .learnerId(learnerIds[row])
+                .firstName(firstNames[row])
+                .lastName(lastNames[row])
+                .schoolName(schoolNames[row])
+                .location(locations[row] != NO_LOCATION ? locationValues.get(locations[row]) : null)
+                .householdIncome(householdIncomes[row] != NO_INCOME ? FixedPoint.toDecimal(householdIncomes[row]) : null)
+                .gradeLevel(gradeLevels[row])
+                .year(years[row])
+                .overallAverage(FixedPoint.toDecimal(overallAverages[row]))
+                .highestTermAverage(FixedPoint.toDecimal(highestTermAverages[row]))
+                .subjectBestMarks(subjectBestMarks)
+                .build();
+    }
+
+    private void writeProfile(int row, LearnerProfileChangedEvent profile) {
+        firstNames[row] = profile.getFirstName();
+        lastNames[row] = profile.getLastName();
+        schoolNames[row] = profile.getSchoolName();
+        locations[row] = encodeLocation(profile.getLocation());
+        householdIncomes[row] = toCents(profile.getHouseholdIncome());
+    }
+
+    private void trackPatch(Long learnerId) {
+        if (loading) {
+            patchedDuringLoad.add(learnerId);
+        }
+    }
+
+    private int encodeLocation(String location) {
+        if (location == null) {
+            return NO_LOCATION;
+        }
+
+        return locationCodes.computeIfAbsent(location, value -> {
+            int code = locationValues.size();
+            locationValues.add(value);
+            Set<String> tokens = LocationNormalizer.tokenize(value);
+            for (String token : tokens) {
+                if (!token.startsWith(LocationNormalizer.TEXT)) {
+                    locationCodesByToken.computeIfAbsent(token, key -> new BitSet()).set(code);
+                }
+            }
+            for (String word : LocationNormalizer.words(value)) {
+                locationCodesByWord.computeIfAbsent(word, key -> new BitSet()).set(code);
+            }
+            String province = LocationNormalizer.provinceOf(tokens);
+            locationProvinces.add(province != null ? province : "other");
+            return code;
+        });
+    }
+
+    private void allocate(int capacity) {
+        learnerIds = new long[capacity];
+        gradeLevels = new int[capacity];
+        years = new int[capacity];
+        overallAverages = new int[capacity];
+        highestTermAverages = new int[capacity];
+        householdIncomes = new long[capacity];
+        locations = new int[capacity];
+        firstNames = new String[capacity];
+        lastNames = new String[capacity];
+        schoolNames = new String[capacity];
+    }
+
+    private void grow(int capacity) {
+        learnerIds = Arrays.copyOf(learnerIds, capacity);
+        gradeLevels = Arrays.copyOf(gradeLevels, capacity);
+        years = Arrays.copyOf(years, capacity);
+        overallAverages = Arrays.copyOf(overallAverages, capacity);
+        highestTermAverages = Arrays.copyOf(highestTermAverages, capacity);
+        householdIncomes = Arrays.copyOf(householdIncomes, capacity);
+        locations = Arrays.copyOf(locations, capacity);
+        firstNames = Arrays.copyOf(firstNames, capacity);
+        lastNames = Arrays.copyOf(lastNames, capacity);
+        schoolNames = Arrays.copyOf(schoolNames, capacity);
+    }
+
+    /**
+     * Convert a mark (scale 2) to hundredths
+     */
+    private static int toMark(BigDecimal mark) {
+        return mark == null ? 0 : (int) FixedPoint.toHundredths(mark);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount == null ? NO_INCOME : FixedPoint.toHundredths(amount);
+    }
+
+    /**
+     * Accumulates facet counts for matching rows; band bounds are lower-inclusive
+     */
+    private static final class FacetCounter {
+
+        private static final long[] INCOME_BOUNDS = {0, 10_000_000, 35_000_000, 60_000_000}; // Cents
+        private static final String[] INCOME_LABELS = {"R0-R100k", "R100k-R350k", "R350k-R600k", "R600k+"};
+        private static final long[] AVERAGE_BOUNDS = {0, 5_000, 6_000, 7_000, 8_000, 9_000}; // Hundredths
+        private static final String[] AVERAGE_LABELS = {"0-50", "50-60", "60-70", "70-80", "80-90", "90-100"};
+
+        private final Map<Integer, Long> gradeLevels = new TreeMap<>();
+        private final Map<String, Long> locations = new TreeMap<>();
+        private final long[] incomeCounts = new long[INCOME_BOUNDS.length];
+        private long unknownIncomeCount;
+        private final long[] averageCounts = new long[AVERAGE_BOUNDS.length];
+        private long total;
+
+        void count(int gradeLevel, String province, long income, int average) {
+            total++;
+            gradeLevels.merge(gradeLevel, 1L, Long::sum);
+            locations.merge(province, 1L, Long::sum);
+
+            if (income == NO_INCOME) {
+                unknownIncomeCount++;
+            } else {
+                incomeCounts[band(INCOME_BOUNDS, income)]++;
+            }
+            averageCounts[band(AVERAGE_BOUNDS, average)]++;
+        }
+
+        LearnerSearchFacets toFacets() {
+            Map<String, Long> incomeBands = new LinkedHashMap<>();
+            for (int i = 0; i < INCOME_LABELS.length; i++) {
+                incomeBands.put(INCOME_LABELS[i], incomeCounts[i]);
+            }
+            incomeBands.put("unspecified", unknownIncomeCount);
+
+            Map<String, Long> averageBands = new LinkedHashMap<>();
+            for (int i = 0; i < AVERAGE_LABELS.length; i++) {
+                averageBands.put(AVERAGE_LABELS[i], averageCounts[i]);
+            }
+
+            return LearnerSearchFacets.builder()
+                    .totalMatches(total)
+                    .gradeLevels(gradeLevels)
+                    .locations(locations)
+                    .incomeBands(incomeBands)
+                    .averageBands(averageBands)
+                    .build();
+        }
+
+        private static int band(long[] bounds, long value) {
+            int band = 0;
+            while (band + 1 < bounds.length && value >= bounds[band + 1]) {
+                band++;
+            }
+            return band;
+        }
+    }
+}
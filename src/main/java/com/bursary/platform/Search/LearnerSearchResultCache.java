@@ -0,0 +1,82 @@
+package com.bursary.platform.Search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches learner search pages by canonical filter, cursor, page size and whether facets
+ * were requested. Entries are
+ * shared across providers (follow state is applied by the caller) and are evicted
+ * only when a changed learner matches their filter before or after the change.
+ */
+@Component
+public class LearnerSearchResultCache {
+
+    private final Cache<Key, LearnerSearchHits> cache = Caffeine.newBuilder()
+            .maximumSize(500)
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+
+    // Bumped on every invalidation so a search that read the index before it cannot cache stale results
+    private long generation;
+
+    public LearnerSearchHits get(LearnerSearchFilter filter, LearnerSearchCursor after, int limit, boolean includeFacets) {
+        return cache.getIfPresent(new Key(filter, after, limit, includeFacets));
+    }
+
+    /**
+     * Invalidation generation to capture before reading the index
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Cache results read from the index, unless an invalidation happened since {@code readGeneration}
+     */
+    public synchronized void put(LearnerSearchFilter filter, LearnerSearchCursor after, int limit, boolean includeFacets,
+                                 LearnerSearchHits hits, long readGeneration) {
+        if (readGeneration == generation) {
+            cache.put(new Key(filter, after, limit, includeFacets), hits);
+        }
+    }
+
+    /**
+     * Evict entries whose filter matches any of the given documents (nulls are ignored),
+     * typically a learner's document before and after a change
+     */
+    public synchronized void evictMatching(LearnerSearchDocument... documents) {
+        generation++;
+
+        List<LearnerSearchDocument> changed = Arrays.stream(documents)
+                .filter(Objects::nonNull)
+                .toList();
+
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        cache.asMap().keySet().removeIf(key -> changed.stream().anyMatch(key.getFilter()::matches));
+    }
+
+    public synchronized void clear() {
+        generation++;
+        cache.invalidateAll();
+    }
+
+    @Value
+    private static class Key {
+        LearnerSearchFilter filter;
+        LearnerSearchCursor after;
+        int limit;
+        boolean includeFacets;
+    }
+}
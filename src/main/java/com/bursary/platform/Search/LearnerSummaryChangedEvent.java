@@ -0,0 +1,16 @@
+package com.bursary.platform.Search;
+
+import lombok.Value;
+
+/**
+ * Published when a learner's search summary is recomputed, inside the transaction.
+ * A null previous document means the learner was not searchable before; a null
+ * document means the learner no longer has searchable results.
+ */
+@Value
+public class LearnerSummaryChangedEvent {
+
+    Long learnerId;
+    LearnerSearchDocument previousDocument;
+    LearnerSearchDocument document;
+}
@@ -0,0 +1,176 @@
+package com.bursary.platform.Search;
+
+import java.util.*;
+
+/**
+ * Maps free-text locations ("Joburg", "Cape Town, WC", "KZN") to canonical tokens such
+ * as {@code province:gauteng} and {@code city:johannesburg}. A known city also yields
+ * its province, so a "Gauteng" filter matches a learner who entered "Pretoria".
+ * Words left over once known places are removed become {@code text:} tokens; in a
+ * filter they match any location word they prefix, so an unlisted suburb or town
+ * still matches ("Orlando" matches "Orlando, Soweto") and a partial name keeps
+ * matching as it did with substring search ("Cape" matches "Cape Town").
+ */
+public final class LocationNormalizer {
+
+    public static final String PROVINCE = "province:";
+    public static final String CITY = "city:";
+    public static final String TEXT = "text:";
+
+    // Filler words that narrow nothing, so "Gauteng Province" is just province:gauteng
+    private static final Set<String> STOP_WORDS = Set.of(
+            "province", "city", "town", "area", "region", "district", "metro", "municipality",
+            "south", "africa", "rsa", "sa", "za");
+
+    // Normalized alias -> canonical tokens, longest aliases first so "east london" wins over "london"
+    private static final Map<String, Set<String>> ALIASES = new TreeMap<>(
+            Comparator.comparingInt(String::length).reversed().thenComparing(Comparator.naturalOrder()));
+
+    static {
+        province("gauteng", "gauteng", "gp");
+        province("western-cape", "western cape", "wc");
+        province("eastern-cape", "eastern cape", "ec");
+        province("northern-cape", "northern cape", "nc");
+        province("kwazulu-natal", "kwazulu natal", "kwa zulu natal", "kzn", "natal");
+        province("free-state", "free state", "fs");
+        province("limpopo", "limpopo", "lp");
+        province("mpumalanga", "mpumalanga", "mp");
+        province("north-west", "north west", "nw");
+
+        city("johannesburg", "gauteng", "johannesburg", "joburg", "jozi", "jhb");
+        city("pretoria", "gauteng", "pretoria", "tshwane", "pta");
+        city("soweto", "gauteng", "soweto");
+        city("sandton", "gauteng", "sandton");
+        city("midrand", "gauteng", "midrand");
+        city("centurion", "gauteng", "centurion");
+        city("ekurhuleni", "gauteng", "ekurhuleni", "germiston", "benoni", "boksburg");
+        city("vereeniging", "gauteng", "vereeniging", "vanderbijlpark");
+        city("cape-town", "western-cape", "cape town", "kaapstad", "cpt");
+        city("stellenbosch", "western-cape", "stellenbosch");
+        city("george", "western-cape", "george");
+        city("paarl", "western-cape", "paarl");
+        city("gqeberha", "eastern-cape", "gqeberha", "port elizabeth", "pe");
+        city("east-london", "eastern-cape", "east london");
+        city("mthatha", "eastern-cape", "mthatha", "umtata");
+        city("kimberley", "northern-cape", "kimberley");
+        city("upington", "northern-cape", "upington");
+        city("durban", "kwazulu-natal", "durban", "ethekwini", "dbn");
+        city("pietermaritzburg", "kwazulu-natal", "pietermaritzburg", "pmb");
+        city("richards-bay", "kwazulu-natal", "richards bay");
+        city("bloemfontein", "free-state", "bloemfontein", "mangaung", "bloem");
+        city("welkom", "free-state", "welkom");
+        city("polokwane", "limpopo", "polokwane", "pietersburg");
+        city("thohoyandou", "limpopo", "thohoyandou");
+        city("mbombela", "mpumalanga", "mbombela", "nelspruit");
+        city("emalahleni", "mpumalanga", "emalahleni", "witbank");
+        city("mahikeng", "north-west", "mahikeng", "mafikeng");
+        city("rustenburg", "north-west", "rustenburg");
+        city("potchefstroom", "north-west", "potchefstroom", "potch");
+    }
+
+    private LocationNormalizer() {
+    }
+
+    /**
+     * Canonical tokens for a free-text location (empty for null or blank input)
+     */
+    public static Set<String> tokenize(String location) {
+        String normalized = normalize(location);
+
+        if (normalized.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> tokens = new TreeSet<>();
+        // Pad with spaces so aliases only match whole words
+        String remaining = " " + normalized + " ";
+
+        for (Map.Entry<String, Set<String>> alias : ALIASES.entrySet()) {
+            String needle = " " + alias.getKey() + " ";
+            if (remaining.contains(needle)) {
+                tokens.addAll(alias.getValue());
+                remaining = remaining.replace(needle, "  ");
+            }
+        }
+
+        for (String word : remaining.trim().split(" +")) {
+            if (!word.isEmpty() && !STOP_WORDS.contains(word)) {
+                tokens.add(TEXT + word);
+            }
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Normalized words of a location, as {@code text:} filter tokens are matched against
+     */
+    public static Set<String> words(String location) {
+        String normalized = normalize(location);
+
+        if (normalized.isEmpty()) {
+            return Set.of();
+        }
+
+        return new TreeSet<>(Arrays.asList(normalized.split(" +")));
+    }
+
+    /**
+     * Whether a location satisfies every filter token: place tokens must be among the
+     * location's tokens, {@code text:} tokens must prefix one of its words
+     */
+    public static boolean matches(Set<String> filterTokens, String location) {
+        Set<String> tokens = tokenize(location);
+        Set<String> words = words(location);
+
+        for (String filterToken : filterTokens) {
+            if (filterToken.startsWith(TEXT)) {
+                String prefix = filterToken.substring(TEXT.length());
+                if (words.stream().noneMatch(word -> word.startsWith(prefix))) {
+                    return false;
+                }
+            } else if (!tokens.contains(filterToken)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Province slug among the given tokens (e.g. "gauteng"), or null if none
+     */
+    public static String provinceOf(Set<String> tokens) {
+        for (String token : tokens) {
+            if (token.startsWith(PROVINCE)) {
+                return token.substring(PROVINCE.length());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lower-case, strip punctuation and collapse whitespace
+     */
+    private static String normalize(String location) {
+        if (location == null) {
+            return "";
+        }
+
+        return location.toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]+", " ")
+                .trim();
+    }
+
+    private static void province(String token, String... aliases) {
+        for (String alias : aliases) {
+            ALIASES.put(alias, Set.of(PROVINCE + token));
+        }
+    }
+
+    private static void city(String token, String province, String... aliases) {
+        for (String alias : aliases) {
+            ALIASES.put(alias, Set.of(CITY + token, PROVINCE + province));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.bursary.platform.Search;
+
+import lombok.Value;
+
+/**
+ * Published when a saved search is created or deleted.
+ * A null search means the saved search was deleted.
+ */
+@Value
+public class SavedSearchChangedEvent {
+
+    Long savedSearchId;
+    SavedSearchRegistry.CompiledSavedSearch search;
+}
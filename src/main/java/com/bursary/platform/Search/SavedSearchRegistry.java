@@ -0,0 +1,173 @@
+package com.bursary.platform.Search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compiled saved searches, bucketed by their most selective field: the required subject
+ * held by the fewest indexed learners, then grade level, then year. A changed learner is only tested against the buckets
+ * its document could fall into, so evaluation cost depends on the searches that can
+ * match rather than on every saved search.
+ *
+ * Location is not used for bucketing: learners without a location pass location filters.
+ * Subject counts are read when a search is registered; a stale choice only costs
+ * speed, since a learner is tested against the bucket of every subject it holds.
+ */
+@Component
+@RequiredArgsConstructor
+public class SavedSearchRegistry {
+
+    private static final String ANY_BUCKET = "any";
+
+    private final LearnerSearchIndex searchIndex;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, CompiledSavedSearch>> buckets = new HashMap<>();
+    private final Map<Long, String> bucketBySearchId = new HashMap<>();
+
+    /**
+     * Replace all registered searches
+     */
+    public void load(Collection<CompiledSavedSearch> searches) {
+        lock.writeLock().lock();
+        try {
+            buckets.clear();
+            bucketBySearchId.clear();
+            searches.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void register(CompiledSavedSearch search) {
+        lock.writeLock().lock();
+        try {
+            remove(search.getSavedSearchId());
+            add(search);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void unregister(Long savedSearchId) {
+        lock.writeLock().lock();
+        try {
+            remove(savedSearchId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Saved searches the learner matches now but did not match before the change
+     */
+    public List<CompiledSavedSearch> findNewMatches(LearnerSearchDocument previous, LearnerSearchDocument current) {
+        if (current == null) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<CompiledSavedSearch> matches = new ArrayList<>();
+
+            for (String bucketKey : candidateBuckets(current)) {
+                Map<Long, CompiledSavedSearch> bucket = buckets.get(bucketKey);
+                if (bucket == null) {
+                    continue;
+                }
+                for (CompiledSavedSearch search : bucket.values()) {
+                    if (search.getFilter().matches(current)
+                            && (previous == null || !search.getFilter().matches(previous))) {
+                        matches.add(search);
+                    }
+                }
+            }
+
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private void add(CompiledSavedSearch search) {
+        String bucketKey = bucketOf(search.getFilter());
+        buckets.computeIfAbsent(bucketKey, key -> new HashMap<>()).put(search.getSavedSearchId(), search);
+        bucketBySearchId.put(search.getSavedSearchId(), bucketKey);
+    }
+
+    private void remove(Long savedSearchId) {
+        String bucketKey = bucketBySearchId.remove(savedSearchId);
+        if (bucketKey == null) {
+            return;
+        }
+
+        Map<Long, CompiledSavedSearch> bucket = buckets.get(bucketKey);
+        bucket.remove(savedSearchId);
+        if (bucket.isEmpty()) {
+            buckets.remove(bucketKey);
+        }
+    }
+
+    private String bucketOf(LearnerSearchFilter filter) {
+        if (!filter.getMinSubjectMarks().isEmpty()) {
+            return "subject:" + leastHeldSubject(filter.getMinSubjectMarks().keySet());
+        }
+        if (filter.getGradeLevel() != null) {
+            return "grade:" + filter.getGradeLevel();
+        }
+        if (filter.getYear() != null) {
+            return "year:" + filter.getYear();
+        }
+        return ANY_BUCKET;
+    }
+
+    /**
+     * Required subject with the fewest holders (ties go to the first in name order)
+     */
+    private String leastHeldSubject(Collection<String> subjectKeys) {
+        String leastHeld = null;
+        int fewestHolders = Integer.MAX_VALUE;
+
+        for (String subjectKey : subjectKeys) {
+            int holders = searchIndex.countLearnersWithSubject(subjectKey);
+            if (holders < fewestHolders) {
+                leastHeld = subjectKey;
+                fewestHolders = holders;
+            }
+        }
+        return leastHeld;
+    }
+
+    /**
+     * Every bucket whose searches the document could satisfy
+     */
+    private static List<String> candidateBuckets(LearnerSearchDocument document) {
+        List<String> bucketKeys = new ArrayList<>();
+
+        if (document.getSubjectBestMarks() != null) {
+            document.getSubjectBestMarks().keySet().forEach(subjectKey -> bucketKeys.add("subject:" + subjectKey));
+        }
+        bucketKeys.add("grade:" + document.getGradeLevel());
+        bucketKeys.add("year:" + document.getYear());
+        bucketKeys.add(ANY_BUCKET);
+
+        return bucketKeys;
+    }
+
+    /**
+     * A saved search with its criteria compiled to a canonical filter
+     */
+    @Value
+    public static class CompiledSavedSearch {
+        Long savedSearchId;
+        Long providerId;
+        String name;
+        LearnerSearchFilter filter;
+    }
+}
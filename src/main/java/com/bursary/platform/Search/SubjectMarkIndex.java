@@ -0,0 +1,196 @@
+package com.bursary.platform.Search;
+
+import java.util.*;
+
+/**
+ * Inverted index from normalized subject name to learners, ordered by their best mark
+ * in the latest academic year. A threshold query ("Mathematics >= 75") is one range
+ * lookup in the ordered marks; several thresholds are combined with AND by probing
+ * the smallest posting list against the others.
+ *
+ * Not thread-safe for writes: callers serialize mutations (LearnerSearchIndex holds
+ * its write lock). Reads do not modify anything, so concurrent readers are safe.
+ */
+public class SubjectMarkIndex {
+
+    private final Map<String, Postings> postingsBySubject = new HashMap<>();
+    private final Map<Long, String[]> subjectsByLearner = new HashMap<>();
+
+    /**
+     * Replace a learner's subject marks (hundredths, keyed by normalized subject name)
+     */
+    public void put(long learnerId, Map<String, Integer> marks) {
+        remove(learnerId);
+
+        if (marks == null || marks.isEmpty()) {
+            return;
+        }
+
+        marks.forEach((subjectKey, mark) ->
+                postingsBySubject.computeIfAbsent(subjectKey, key -> new Postings()).put(learnerId, mark));
+        subjectsByLearner.put(learnerId, marks.keySet().toArray(new String[0]));
+    }
+
+    /**
+     * Remove all of a learner's subject marks
+     */
+    public void remove(long learnerId) {
+        String[] subjectKeys = subjectsByLearner.remove(learnerId);
+
+        if (subjectKeys == null) {
+            return;
+        }
+
+        for (String subjectKey : subjectKeys) {
+            Postings postings = postingsBySubject.get(subjectKey);
+            postings.remove(learnerId);
+            if (postings.isEmpty()) {
+                postingsBySubject.remove(subjectKey);
+            }
+        }
+    }
+
+    public void clear() {
+        postingsBySubject.clear();
+        subjectsByLearner.clear();
+    }
+
+    /**
+     * Number of learners holding a mark in the subject
+     */
+    public int holderCount(String subjectKey) {
+        Postings postings = postingsBySubject.get(subjectKey);
+        return postings != null ? postings.size() : 0;
+    }
+
+    /**
+     * A learner's marks (hundredths) keyed by normalized subject name
+     */
+    public Map<String, Integer> marksOf(long learnerId) {
+        String[] subjectKeys = subjectsByLearner.get(learnerId);
+
+        if (subjectKeys == null) {
+            return Map.of();
+        }
+
+        Map<String, Integer> marks = new HashMap<>();
+        for (String subjectKey : subjectKeys) {
+            marks.put(subjectKey, postingsBySubject.get(subjectKey).markOf(learnerId));
+        }
+        return marks;
+    }
+
+    /**
+     * Learners meeting every threshold (hundredths, keyed by normalized subject name)
+     */
+    public long[] findLearnersMeetingAll(Map<String, Long> minMarks) {
+        List<long[]> matchesPerSubject = new ArrayList<>();
+
+        for (Map.Entry<String, Long> criterion : minMarks.entrySet()) {
+            Postings postings = postingsBySubject.get(criterion.getKey());
+            if (postings == null) {
+                return new long[0];
+            }
+            matchesPerSubject.add(postings.atLeast(criterion.getValue()));
+        }
+
+        if (matchesPerSubject.isEmpty()) {
+            return new long[0];
+        }
+
+        // Start from the most selective subject and probe the rest by hash lookup
+        int smallest = 0;
+        for (int i = 1; i < matchesPerSubject.size(); i++) {
+            if (matchesPerSubject.get(i).length < matchesPerSubject.get(smallest).length) {
+                smallest = i;
+            }
+        }
+
+        long[] candidates = matchesPerSubject.get(smallest);
+        if (minMarks.size() == 1) {
+            return candidates;
+        }
+
+        long[] result = new long[candidates.length];
+        int count = 0;
+
+        for (long learnerId : candidates) {
+            boolean meetsAll = true;
+            for (Map.Entry<String, Long> criterion : minMarks.entrySet()) {
+                Integer mark = postingsBySubject.get(criterion.getKey()).markOf(learnerId);
+                if (mark == null || mark < criterion.getValue()) {
+                    meetsAll = false;
+                    break;
+                }
+            }
+            if (meetsAll) {
+                result[count++] = learnerId;
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Marks for one subject: a hash map for point lookups plus a tree ordered by mark
+     * (descending, then learner ID) for range lookups, both kept current on every write
+     */
+    private static final class Postings {
+
+        private static final Comparator<Entry> BY_MARK_DESC = Comparator.comparingInt(Entry::mark).reversed()
+                .thenComparingLong(Entry::learnerId);
+
+        private final Map<Long, Integer> markByLearner = new HashMap<>();
+        private final NavigableSet<Entry> byMark = new TreeSet<>(BY_MARK_DESC);
+
+        void put(long learnerId, int mark) {
+            Integer previous = markByLearner.put(learnerId, mark);
+            if (previous != null) {
+                byMark.remove(new Entry(previous, learnerId));
+            }
+            byMark.add(new Entry(mark, learnerId));
+        }
+
+        void remove(long learnerId) {
+            Integer previous = markByLearner.remove(learnerId);
+            if (previous != null) {
+                byMark.remove(new Entry(previous, learnerId));
+            }
+        }
+
+        boolean isEmpty() {
+            return markByLearner.isEmpty();
+        }
+
+        int size() {
+            return markByLearner.size();
+        }
+
+        Integer markOf(long learnerId) {
+            return markByLearner.get(learnerId);
+        }
+
+        /**
+         * Learner IDs with mark >= minMark: the head of the ordered postings
+         */
+        long[] atLeast(long minMark) {
+            int threshold = (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, minMark));
+            // Sorts after every entry with mark >= threshold
+            Entry bound = new Entry(threshold, Long.MAX_VALUE);
+
+            long[] learnerIds = new long[Math.min(byMark.size(), 16)];
+            int count = 0;
+            for (Entry entry : byMark.headSet(bound, true)) {
+                if (count == learnerIds.length) {
+                    learnerIds = Arrays.copyOf(learnerIds, count * 2);
+                }
+                learnerIds[count++] = entry.learnerId();
+            }
+
+            return Arrays.copyOf(learnerIds, count);
+        }
+
+        private record Entry(int mark, long learnerId) {
+        }
+    }
+}
@@ -2,13 +2,12 @@ package com.bursary.platform.Services;
 
 import com.bursary.platform.DTOs.*;
 import com.bursary.platform.Entities.AcademicYear;
-import com.bursary.platform.Entities.Learner;
 import com.bursary.platform.Entities.SubjectMark;
 import com.bursary.platform.Entities.TermResult;
+import com.bursary.platform.Events.AcademicResultsUpdatedEvent;
 import com.bursary.platform.Exceptions.DuplicateResourceException;
 import com.bursary.platform.Exceptions.ResourceNotFoundException;
 import com.bursary.platform.Repositories.AcademicYearRepository;
-import com.bursary.platform.Repositories.LearnerRepository;
 import com.bursary.platform.Repositories.SubjectMarkRepository;
 import com.bursary.platform.Repositories.TermResultRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +17,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,9 +30,8 @@ public class AcademicService {
     private final AcademicYearRepository academicYearRepository;
     private final TermResultRepository termResultRepository;
     private final SubjectMarkRepository subjectMarkRepository;
-    private final NotificationService notificationService;
-    private final FollowService followService;
-    private final LearnerRepository learnerRepository;
+    private final OutboxService outboxService;
+    private final LearnerSearchSummaryService searchSummaryService;
 
     /**
      * Create a new academic year for a learner
@@ -58,6 +58,9 @@ public class AcademicService {
         academicYear = academicYearRepository.save(academicYear);
         log.info("Academic year created with ID: {}", academicYear.getId());
 
+        // A newer academic year without results replaces the learner's searchable year
+        searchSummaryService.refreshLearner(learnerId);
+
         return mapToAcademicYearResponse(academicYear);
     }
 
@@ -109,8 +112,10 @@ public class AcademicService {
         subjectMarks = subjectMarkRepository.saveAll(subjectMarks);
         log.info("Created {} subject marks for term {}", subjectMarks.size(), request.getTermNumber());
 
-        // Notify followers about new results
-        notifyFollowersOfUpdate(learnerId, academicYearId);
+        searchSummaryService.refreshLearner(learnerId);
+
+        // Followers are notified by the outbox relay
+        outboxService.append(new AcademicResultsUpdatedEvent(learnerId, academicYearId));
 
         return mapToTermResultResponse(termResult, subjectMarks);
     }
@@ -122,10 +127,19 @@ public class AcademicService {
     public List<AcademicYearResponse> getMyAcademicYears(Long learnerId) {
         log.info("Fetching academic years for learner {}", learnerId);
 
+        // Two queries regardless of history size: years, then all terms with their marks
         List<AcademicYear> academicYears = academicYearRepository.findByLearnerIdOrderByYearDescGradeLevelDesc(learnerId);
 
+        if (academicYears.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<TermResult>> termsByYearId = termResultRepository.findByLearnerIdWithSubjectMarks(learnerId).stream()
+                .collect(Collectors.groupingBy(TermResult::getAcademicYearId));
+
         return academicYears.stream()
-                .map(this::mapToAcademicYearResponseWithTerms)
+                .map(academicYear -> mapToAcademicYearResponseWithTerms(
+                        academicYear, termsByYearId.getOrDefault(academicYear.getId(), List.of())))
                 .collect(Collectors.toList());
     }
 
@@ -143,7 +157,8 @@ public class AcademicService {
             throw new IllegalArgumentException("This academic year does not belong to you");
         }
 
-        return mapToAcademicYearResponseWithTerms(academicYear);
+        return mapToAcademicYearResponseWithTerms(
+                academicYear, termResultRepository.findByAcademicYearIdWithSubjectMarks(academicYearId));
     }
 
     /**
@@ -189,8 +204,10 @@ public class AcademicService {
         subjectMarks = subjectMarkRepository.saveAll(subjectMarks);
         log.info("Updated term result with {} subjects, new average: {}", subjectMarks.size(), averageMark);
 
-        // Notify followers about updated results
-        notifyFollowersOfUpdate(learnerId, termResult.getAcademicYearId());
+        searchSummaryService.refreshLearner(learnerId);
+
+        // Followers are notified by the outbox relay
+        outboxService.append(new AcademicResultsUpdatedEvent(learnerId, termResult.getAcademicYearId()));
 
         return mapToTermResultResponse(termResult, subjectMarks);
     }
@@ -211,6 +228,8 @@ public class AcademicService {
 
         academicYearRepository.delete(academicYear);
         log.info("Academic year {} deleted", academicYearId);
+
+        searchSummaryService.refreshLearner(learnerId);
     }
 
     // ========== Helper Methods ==========
@@ -246,14 +265,14 @@ public class AcademicService {
     }
 
     /**
-     * Map AcademicYear to response with all terms
+     * Map AcademicYear to response with its terms (ordered by term number, subject marks already fetched)
      */
-    private AcademicYearResponse mapToAcademicYearResponseWithTerms(AcademicYear academicYear) {
-        List<TermResult> termResults = termResultRepository.findByAcademicYearIdOrderByTermNumberAsc(academicYear.getId());
-
+    private AcademicYearResponse mapToAcademicYearResponseWithTerms(AcademicYear academicYear, List<TermResult> termResults) {
         List<TermResultResponse> termResponses = termResults.stream()
                 .map(term -> {
-                    List<SubjectMark> subjects = subjectMarkRepository.findByTermResultIdOrderBySubjectNameAsc(term.getId());
+                    List<SubjectMark> subjects = term.getSubjectMarks().stream()
+                            .sorted(Comparator.comparing(SubjectMark::getSubjectName))
+                            .collect(Collectors.toList());
                     return mapToTermResultResponse(term, subjects);
                 })
                 .collect(Collectors.toList());
@@ -287,31 +306,4 @@ public class AcademicService {
                 .subjects(subjectResponses)
                 .build();
     }
-
-    /**
-     * Notify all providers following this learner about result updates
-     */
-    private void notifyFollowersOfUpdate(Long learnerId, Long academicYearId) {
-        try {
-            Learner learner = learnerRepository.findById(learnerId).orElse(null);
-            if (learner == null) return;
-
-            String learnerName = learner.getFirstName() + " " + learner.getLastName();
-
-            List<FollowResponse> followers = followService.getFollowers(learnerId);
-
-            for (FollowResponse follower : followers) {
-                notificationService.createResultUpdateNotification(
-                        follower.getProviderId(),
-                        learnerName,
-                        academicYearId
-                );
-            }
-
-            log.info("Notified {} followers about result update for learner {}", followers.size(), learnerId);
-        } catch (Exception e) {
-            log.error("Error notifying followers: {}", e.getMessage());
-            // Don't fail the main operation if notification fails
-        }
-    }
-}
\ No newline at end of file
+}
@@ -4,17 +4,24 @@ import com.bursary.platform.DTOs.*;
 import com.bursary.platform.Entities.Application;
 import com.bursary.platform.Entities.Bursary;
 import com.bursary.platform.Entities.Learner;
-import com.bursary.platform.Entities.Provider;
+import com.bursary.platform.Events.ApplicationsReviewedEvent;
 import com.bursary.platform.Exceptions.DuplicateApplicationException;
 import com.bursary.platform.Exceptions.ResourceNotFoundException;
 import com.bursary.platform.Repositories.ApplicationRepository;
 import com.bursary.platform.Repositories.BursaryRepository;
+import com.bursary.platform.Search.ApplicationInboxCursor;
+import com.bursary.platform.Search.BursaryCatalogEntry;
+import com.bursary.platform.Search.ApplicationStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -24,22 +31,32 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ApplicationService {
 
+    private static final int DEFAULT_INBOX_PAGE_SIZE = 20;
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
+
     private final ApplicationRepository applicationRepository;
     private final BursaryRepository bursaryRepository;
+    private final BursaryCatalogService catalogService;
+    private final ApplicationStatisticsService statisticsService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
     /**
-     * Apply for a bursary
+     * Apply for a bursary. The bursary is checked against the in-memory catalog and the
+     * application is written with a single insert-if-absent, so a repeated or concurrent
+     * submission is reported as a duplicate instead of failing on the unique constraint.
      */
     @Transactional
     public ApplicationResponse applyForBursary(Long learnerId, CreateApplicationRequest request) {
         log.info("Learner {} attempting to apply for bursary {}", learnerId, request.getBursaryId());
 
         // Check if bursary exists
-        Bursary bursary = bursaryRepository.findById(request.getBursaryId())
+        BursaryCatalogEntry bursary = catalogService.findEntry(request.getBursaryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Bursary not found with ID: " + request.getBursaryId()));
 
         // Check if bursary is active
-        if (!bursary.getIsActive()) {
+        if (!bursary.isActive()) {
             throw new IllegalArgumentException("This bursary is no longer active");
         }
 
@@ -48,23 +65,16 @@ public class ApplicationService {
 //            throw new IllegalArgumentException("Application deadline has passed for this bursary");
 //        }
 
-        // Check if already applied
-        if (applicationRepository.existsByLearnerIdAndBursaryId(learnerId, request.getBursaryId())) {
-            throw new DuplicateApplicationException("You have already applied to this bursary");
-        }
+        // Create application, unless the learner already applied
+        LocalDateTime submittedAt = LocalDateTime.now(clock);
+        Long applicationId = applicationRepository.insertIfAbsent(
+                        learnerId, request.getBursaryId(), bursary.getProviderId(), "submitted", submittedAt)
+                .orElseThrow(() -> new DuplicateApplicationException("You have already applied to this bursary"));
 
-        // Create application
-        Application application = Application.builder()
-                .learnerId(learnerId)
-                .bursaryId(request.getBursaryId())
-                .status("submitted")
-                .submittedAt(LocalDateTime.now())
-                .build();
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(bursary.getProviderId(), null, "submitted"));
+        log.info("Application created successfully with ID: {}", applicationId);
 
-        application = applicationRepository.save(application);
-        log.info("Application created successfully with ID: {}", application.getId());
-
-        return mapToResponse(application, bursary);
+        return mapToResponse(applicationId, submittedAt, bursary);
     }
 
     /**
@@ -74,13 +84,8 @@ public class ApplicationService {
     public List<ApplicationResponse> getMyApplications(Long learnerId) {
         log.info("Fetching applications for learner ID: {}", learnerId);
 
-        List<Application> applications = applicationRepository.findByLearnerIdOrderBySubmittedAtDesc(learnerId);
-
-        return applications.stream()
-                .map(app -> {
-                    Bursary bursary = app.getBursary();
-                    return mapToResponse(app, bursary);
-                })
+        return applicationRepository.findRowsByLearnerId(learnerId).stream()
+                .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
@@ -91,7 +96,7 @@ public class ApplicationService {
     public ApplicationResponse getApplicationById(Long learnerId, Long applicationId) {
         log.info("Fetching application {} for learner {}", applicationId, learnerId);
 
-        Application application = applicationRepository.findById(applicationId)
+        ApplicationRow application = applicationRepository.findRowById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + applicationId));
 
         // Verify the application belongs to this learner
@@ -99,7 +104,7 @@ public class ApplicationService {
             throw new IllegalArgumentException("You don't have permission to view this application");
         }
 
-        return mapToResponse(application, application.getBursary());
+        return mapToResponse(application);
     }
 
     /**
@@ -132,7 +137,8 @@ public class ApplicationService {
     public void withdrawApplication(Long learnerId, Long applicationId) {
         log.info("Learner {} attempting to withdraw application {}", learnerId, applicationId);
 
-        Application application = applicationRepository.findById(applicationId)
+        // Lock the row so the status read here is the one replaced (statistics rely on it)
+        Application application = applicationRepository.findByIdForUpdate(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + applicationId));
 
         // Verify ownership
@@ -146,6 +152,7 @@ public class ApplicationService {
         }
 
         applicationRepository.delete(application);
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(application.getProviderId(), application.getStatus(), null));
         log.info("Application {} withdrawn successfully", applicationId);
     }
 
@@ -159,12 +166,12 @@ public class ApplicationService {
     public List<ProviderApplicationResponse> getProviderApplications(Long providerId, String status) {
         log.info("Fetching applications for provider ID: {}, status filter: {}", providerId, status);
 
-        List<Application> applications;
+        List<ProviderApplicationRow> applications;
 
         if (status != null && !status.isEmpty()) {
-            applications = applicationRepository.findByProviderIdAndStatus(providerId, status);
+            applications = applicationRepository.findRowsByProviderIdAndStatus(providerId, status);
         } else {
-            applications = applicationRepository.findByProviderId(providerId);
+            applications = applicationRepository.findRowsByProviderId(providerId);
         }
 
         return applications.stream()
@@ -172,6 +179,46 @@ public class ApplicationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of a provider's application inbox, newest first, optionally limited to a
+     * status and/or one bursary. Pages continue from a cursor, so each page costs the
+     * same however far the provider has scrolled.
+     */
+    @Transactional(readOnly = true)
+    public ProviderInboxPageResponse getProviderInbox(Long providerId, String status, Long bursaryId,
+                                                      String cursor, Integer size) {
+        log.info("Fetching inbox for provider ID: {}, status: {}, bursary: {}", providerId, status, bursaryId);
+
+        int pageSize = size != null ? size : DEFAULT_INBOX_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_INBOX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_INBOX_PAGE_SIZE);
+        }
+
+        ApplicationInboxCursor after = cursor != null && !cursor.isBlank() ? ApplicationInboxCursor.decode(cursor) : null;
+
+        // A bursary of another provider simply matches nothing (the query is scoped to the provider)
+        List<ProviderApplicationRow> rows = applicationRepository.findInboxRows(providerId,
+                status != null && !status.isBlank() ? status : null, bursaryId, after, pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            ProviderApplicationRow last = rows.get(rows.size() - 1);
+            nextCursor = new ApplicationInboxCursor(last.getSubmittedAt(), last.getApplicationId()).encode();
+        }
+
+        return ProviderInboxPageResponse.builder()
+                .results(rows.stream().map(this::mapToProviderResponse).collect(Collectors.toList()))
+                .size(pageSize)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     /**
      * Get applications for a specific bursary
      */
@@ -187,7 +234,7 @@ public class ApplicationService {
             throw new IllegalArgumentException("This bursary does not belong to you");
         }
 
-        List<Application> applications = applicationRepository.findByBursaryIdOrderBySubmittedAtDesc(bursaryId);
+        List<ProviderApplicationRow> applications = applicationRepository.findRowsByBursaryId(bursaryId);
 
         return applications.stream()
                 .map(this::mapToProviderResponse)
@@ -202,7 +249,8 @@ public class ApplicationService {
                                                                UpdateApplicationStatusRequest request) {
         log.info("Provider {} updating application {} to status: {}", providerId, applicationId, request.getStatus());
 
-        Application application = applicationRepository.findById(applicationId)
+        // Lock the row so the status read here is the one replaced (statistics rely on it)
+        Application application = applicationRepository.findByIdForUpdate(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + applicationId));
 
         // Verify application belongs to this provider's bursary
@@ -212,6 +260,7 @@ public class ApplicationService {
         }
 
         // Update status
+        String previousStatus = application.getStatus();
         application.setStatus(request.getStatus());
         application.setReviewedAt(LocalDateTime.now());
 
@@ -226,25 +275,98 @@ public class ApplicationService {
         }
 
         application = applicationRepository.save(application);
+        if (!request.getStatus().equals(previousStatus)) {
+            eventPublisher.publishEvent(new ApplicationStatusChangedEvent(providerId, previousStatus, request.getStatus()));
+            outboxService.append(new ApplicationsReviewedEvent(providerId, List.of(new ApplicationsReviewedEvent.Review(
+                    applicationId, application.getLearnerId(), bursary.getTitle(), previousStatus, request.getStatus()))));
+        }
         log.info("Application {} status updated to: {}", applicationId, request.getStatus());
 
         return mapToProviderResponse(application);
     }
 
     /**
-     * Get application statistics for provider
+     * Move many applications to new statuses at once (provider only). Ownership and current
+     * statuses come from one query, each target status is applied with one UPDATE, and
+     * one outbox event carries every change (the relay notifies the learners in one
+     * batch). Applications that are missing
+     * or belong to another provider are reported per ID instead of failing the request.
+     */
+    @Transactional
+    public BulkApplicationStatusResponse bulkUpdateApplicationStatus(Long providerId, BulkApplicationStatusRequest request) {
+        log.info("Provider {} updating status of {} applications", providerId, request.getUpdates().size());
+
+        Map<Long, String> targetStatuses = new LinkedHashMap<>();
+        for (BulkApplicationStatusRequest.StatusUpdate update : request.getUpdates()) {
+            if (targetStatuses.put(update.getApplicationId(), update.getStatus()) != null) {
+                throw new IllegalArgumentException("Application " + update.getApplicationId() + " is listed more than once");
+            }
+        }
+
+        Map<Long, ApplicationStatusRow> currentRows = applicationRepository.findStatusRowsForUpdate(targetStatuses.keySet())
+                .stream()
+                .collect(Collectors.toMap(ApplicationStatusRow::getApplicationId, row -> row));
+
+        Map<String, List<Long>> idsByStatus = new LinkedHashMap<>();
+        List<ApplicationsReviewedEvent.Review> changed = new ArrayList<>();
+        List<BulkApplicationStatusResponse.Result> results = new ArrayList<>();
+
+        targetStatuses.forEach((applicationId, status) -> {
+            ApplicationStatusRow row = currentRows.get(applicationId);
+            BulkApplicationStatusResponse.Result.ResultBuilder result = BulkApplicationStatusResponse.Result.builder()
+                    .applicationId(applicationId)
+                    .status(status);
+
+            if (row == null) {
+                result.outcome("not_found");
+            } else if (!row.getProviderId().equals(providerId)) {
+                result.outcome("forbidden");
+            } else if (row.getStatus().equals(status)) {
+                result.outcome("unchanged").previousStatus(row.getStatus());
+            } else {
+                result.outcome("updated").previousStatus(row.getStatus());
+                idsByStatus.computeIfAbsent(status, key -> new ArrayList<>()).add(applicationId);
+                changed.add(new ApplicationsReviewedEvent.Review(applicationId, row.getLearnerId(),
+                        row.getBursaryTitle(), row.getStatus(), status));
+                eventPublisher.publishEvent(new ApplicationStatusChangedEvent(providerId, row.getStatus(), status));
+            }
+
+            results.add(result.build());
+        });
+
+        LocalDateTime reviewedAt = LocalDateTime.now();
+        idsByStatus.forEach((status, applicationIds) ->
+                applicationRepository.updateStatus(applicationIds, status, reviewedAt));
+
+        if (!changed.isEmpty()) {
+            outboxService.append(new ApplicationsReviewedEvent(providerId, changed));
+        }
+
+        log.info("Provider {} updated {} of {} applications", providerId, changed.size(), targetStatuses.size());
+
+        return BulkApplicationStatusResponse.builder()
+                .updatedCount(changed.size())
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Get application statistics for provider (from in-memory counters, loaded with a
+     * single GROUP BY query the first time)
      */
     @Transactional(readOnly = true)
     public ApplicationStatisticsResponse getProviderStatistics(Long providerId) {
         log.info("Fetching application statistics for provider ID: {}", providerId);
 
-        long total = applicationRepository.countByProviderId(providerId);
-        long submitted = applicationRepository.countByProviderIdAndStatus(providerId, "submitted");
-        long underReview = applicationRepository.countByProviderIdAndStatus(providerId, "under_review");
-        long shortlisted = applicationRepository.countByProviderIdAndStatus(providerId, "shortlisted");
-        long interviewScheduled = applicationRepository.countByProviderIdAndStatus(providerId, "interview_scheduled");
-        long accepted = applicationRepository.countByProviderIdAndStatus(providerId, "accepted");
-        long rejected = applicationRepository.countByProviderIdAndStatus(providerId, "rejected");
+        Map<String, Long> counts = statisticsService.getStatusCounts(providerId);
+
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        long submitted = counts.getOrDefault("submitted", 0L);
+        long underReview = counts.getOrDefault("under_review", 0L);
+        long shortlisted = counts.getOrDefault("shortlisted", 0L);
+        long interviewScheduled = counts.getOrDefault("interview_scheduled", 0L);
+        long accepted = counts.getOrDefault("accepted", 0L);
+        long rejected = counts.getOrDefault("rejected", 0L);
 
         Map<String, Long> byStatus = Map.of(
                 "submitted", submitted,
@@ -300,22 +422,76 @@ public class ApplicationService {
                 .build();
     }
 
+    /**
+     * Map a received-application row to ProviderApplicationResponse
+     */
+    private ProviderApplicationResponse mapToProviderResponse(ProviderApplicationRow row) {
+        return ProviderApplicationResponse.builder()
+                .applicationId(row.getApplicationId())
+                .status(row.getStatus())
+                .submittedAt(row.getSubmittedAt())
+                .reviewedAt(row.getReviewedAt())
+                .awardAmount(row.getAwardAmount())
+                .notes(row.getNotes())
+                .learner(ProviderApplicationResponse.LearnerInfo.builder()
+                        .id(row.getLearnerId())
+                        .firstName(row.getLearnerFirstName())
+                        .lastName(row.getLearnerLastName())
+                        .fullName(row.getLearnerFirstName() + " " + row.getLearnerLastName())
+                        .email(row.getLearnerEmail())
+                        .schoolName(row.getLearnerSchoolName())
+                        .householdIncome(row.getLearnerHouseholdIncome())
+                        .location(row.getLearnerLocation())
+                        .build())
+                .bursary(ProviderApplicationResponse.BursaryInfo.builder()
+                        .id(row.getBursaryId())
+                        .title(row.getBursaryTitle())
+                        .amount(row.getBursaryAmount())
+                        .applicationDeadline(row.getBursaryApplicationDeadline())
+                        .build())
+                .build();
+    }
+
     // ========== Helper Methods ==========
 
     /**
-     * Map Application and Bursary entities to ApplicationResponse with full details
+     * Map an application row (bursary and provider columns included) to ApplicationResponse
      */
-    private ApplicationResponse mapToResponse(Application application, Bursary bursary) {
-        Provider provider = bursary.getProvider();
+    private ApplicationResponse mapToResponse(ApplicationRow row) {
+        return ApplicationResponse.builder()
+                .id(row.getId())
+                .status(row.getStatus())
+                .submittedAt(row.getSubmittedAt())
+                .createdAt(row.getCreatedAt())
+                .bursary(ApplicationResponse.BursaryInfo.builder()
+                        .id(row.getBursaryId())
+                        .title(row.getBursaryTitle())
+                        .description(row.getBursaryDescription())
+                        .amount(row.getBursaryAmount())
+                        .applicationDeadline(row.getBursaryApplicationDeadline())
+                        .isActive(row.getBursaryIsActive())
+                        .provider(ApplicationResponse.ProviderInfo.builder()
+                                .id(row.getProviderId())
+                                .organizationName(row.getProviderOrganizationName())
+                                .organizationType(row.getProviderOrganizationType())
+                                .location(row.getProviderLocation())
+                                .build())
+                        .build())
+                .build();
+    }
 
+    /**
+     * Map a newly created application and its catalog bursary to ApplicationResponse
+     */
+    private ApplicationResponse mapToResponse(Long applicationId, LocalDateTime submittedAt, BursaryCatalogEntry bursary) {
         // Build provider info
         ApplicationResponse.ProviderInfo providerInfo = null;
-        if (provider != null) {
+        if (bursary.getProviderName() != null) {
             providerInfo = ApplicationResponse.ProviderInfo.builder()
-                    .id(provider.getId())
-                    .organizationName(provider.getOrganizationName())
-                    .organizationType(provider.getOrganizationType())
-                    .location(provider.getLocation())
+                    .id(bursary.getProviderId())
+                    .organizationName(bursary.getProviderName())
+                    .organizationType(bursary.getProviderType())
+                    .location(bursary.getProviderLocation())
                     .build();
         }
 
@@ -326,17 +502,17 @@ public class ApplicationService {
                 .description(bursary.getDescription())
                 .amount(bursary.getAmount())
                 .applicationDeadline(bursary.getApplicationDeadline())
-                .isActive(bursary.getIsActive())
+                .isActive(bursary.isActive())
                 .provider(providerInfo)
                 .build();
 
         // Build final response
         return ApplicationResponse.builder()
-                .id(application.getId())
-                .status(application.getStatus())
-                .submittedAt(application.getSubmittedAt())
-                .createdAt(application.getCreatedAt())
+                .id(applicationId)
+                .status("submitted")
+                .submittedAt(submittedAt)
+                .createdAt(submittedAt)
                 .bursary(bursaryInfo)
                 .build();
     }
-}
\ No newline at end of file
+}
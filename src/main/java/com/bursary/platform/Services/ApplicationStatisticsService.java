@@ -0,0 +1,193 @@
+package com.bursary.platform.Services;
+
+import com.bursary.platform.DTOs.StatusCount;
+import com.bursary.platform.Repositories.ApplicationRepository;
+import com.bursary.platform.Search.ApplicationStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-provider, per-status application counts kept in memory. A provider's counts are
+ * loaded with one GROUP BY query on first use and then adjusted by each committed
+ * application change, so reading them needs no query.
+ * <p>
+ * A load only installs its counts when no application change of the provider was in
+ * flight or committed while it ran; otherwise the query result might or might not
+ * include that change, so the counts are used once and loaded again next time.
+ * Installed counts are periodically compared with the GROUP BY query and replaced if
+ * they have drifted.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationStatisticsService {
+
+    private final ApplicationRepository applicationRepository;
+
+    private final Map<Long, Map<String, LongAdder>> countsByProvider = new ConcurrentHashMap<>();
+    private final Map<Long, ProviderActivity> activityByProvider = new ConcurrentHashMap<>();
+
+    /**
+     * Application count per status for a provider (statuses without applications omitted)
+     */
+    public Map<String, Long> getStatusCounts(Long providerId) {
+        Map<String, LongAdder> counts = countsByProvider.get(providerId);
+
+        if (counts == null) {
+            counts = load(providerId);
+        }
+
+        Map<String, Long> snapshot = new HashMap<>();
+        counts.forEach((status, count) -> {
+            long value = count.sum();
+            if (value > 0) {
+                snapshot.put(status, value);
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * A change is about to commit: loads started from now on must not be installed
+     */
+    @EventListener
+    public void onStatusChanging(ApplicationStatusChangedEvent event) {
+        activity(event.getProviderId()).inFlight.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(ApplicationStatusChangedEvent event) {
+        Map<String, LongAdder> counts = countsByProvider.get(event.getProviderId());
+
+        if (counts != null) {
+            if (event.getPreviousStatus() != null) {
+                counter(counts, event.getPreviousStatus()).decrement();
+            }
+            if (event.getStatus() != null) {
+                counter(counts, event.getStatus()).increment();
+            }
+        }
+
+        ProviderActivity activity = activity(event.getProviderId());
+        activity.generation.incrementAndGet();
+        activity.inFlight.decrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onStatusChangeRolledBack(ApplicationStatusChangedEvent event) {
+        activity(event.getProviderId()).inFlight.decrementAndGet();
+    }
+
+    /**
+     * Re-run the GROUP BY query for every provider with installed counts and replace
+     * counts that no longer match. Providers with a change in flight are skipped and
+     * picked up on the next run.
+     */
+    @Scheduled(fixedDelayString = "${bursary.statistics.reconcile-interval-ms:900000}")
+    public void reconcile() {
+        int corrected = 0;
+
+        for (Long providerId : countsByProvider.keySet()) {
+            ProviderActivity activity = activity(providerId);
+            if (activity.inFlight.get() != 0) {
+                continue;
+            }
+            long generation = activity.generation.get();
+
+            Map<String, LongAdder> fresh = queryCounts(providerId);
+            Map<String, LongAdder> installed = countsByProvider.get(providerId);
+            if (installed == null || activity.inFlight.get() != 0 || activity.generation.get() != generation
+                    || totals(installed).equals(totals(fresh))) {
+                continue;
+            }
+
+            log.warn("Application counts of provider {} drifted: {} in memory, {} in the database",
+                    providerId, totals(installed), totals(fresh));
+            if (countsByProvider.replace(providerId, installed, fresh)
+                    && (activity.inFlight.get() != 0 || activity.generation.get() != generation)) {
+                // Raced with a write; the next request loads again
+                countsByProvider.remove(providerId, fresh);
+            }
+            corrected++;
+        }
+
+        if (corrected > 0) {
+            log.info("Reconciled application counts of {} providers", corrected);
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private Map<String, LongAdder> load(Long providerId) {
+        ProviderActivity activity = activity(providerId);
+        boolean quiet = activity.inFlight.get() == 0;
+        long generation = activity.generation.get();
+
+        Map<String, LongAdder> counts = queryCounts(providerId);
+
+        if (!quiet) {
+            return counts;
+        }
+
+        Map<String, LongAdder> installed = countsByProvider.putIfAbsent(providerId, counts);
+        if (installed != null) {
+            return installed;
+        }
+
+        if (activity.inFlight.get() != 0 || activity.generation.get() != generation) {
+            // Raced with a write; the next request loads again
+            countsByProvider.remove(providerId, counts);
+        } else {
+            log.debug("Loaded application counts for provider {}", providerId);
+        }
+
+        return counts;
+    }
+
+    private Map<String, LongAdder> queryCounts(Long providerId) {
+        Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+        for (StatusCount row : applicationRepository.countByProviderIdGroupedByStatus(providerId)) {
+            counter(counts, row.getStatus()).add(row.getCount());
+        }
+        return counts;
+    }
+
+    /**
+     * Non-zero counts by status, for comparing two sets of counters
+     */
+    private static Map<String, Long> totals(Map<String, LongAdder> counts) {
+        Map<String, Long> totals = new HashMap<>();
+        counts.forEach((status, count) -> {
+            long value = count.sum();
+            if (value != 0) {
+                totals.put(status, value);
+            }
+        });
+        return totals;
+    }
+
+    private ProviderActivity activity(Long providerId) {
+        return activityByProvider.computeIfAbsent(providerId, id -> new ProviderActivity());
+    }
+
+    private static LongAdder counter(Map<String, LongAdder> counts, String status) {
+        return counts.computeIfAbsent(status, key -> new LongAdder());
+    }
+
+    private static final class ProviderActivity {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong generation = new AtomicLong();
+    }
+}
@@ -0,0 +1,189 @@
+package com.bursary.platform.Services;
+
+import com.bursary.platform.Entities.Bursary;
+import com.bursary.platform.Entities.Provider;
+import com.bursary.platform.Repositories.BursaryRepository;
+import com.bursary.platform.Repositories.BursaryRepository.CatalogMarker;
+import com.bursary.platform.Search.BursaryCatalogChangedEvent;
+import com.bursary.platform.Search.BursaryCatalogEntry;
+import com.bursary.platform.Search.BursaryEligibility;
+import com.bursary.platform.Search.BursaryKeywordIndex;
+import com.bursary.platform.Search.BursaryCatalogSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the in-memory bursary catalog. The catalog is loaded at startup and
+ * rebuilt when a periodic check sees bursaries or providers change; code that
+ * writes bursaries can call refresh() to publish the change immediately.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BursaryCatalogService {
+
+    private final BursaryRepository bursaryRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    private volatile BursaryCatalogSnapshot snapshot = BursaryCatalogSnapshot.EMPTY;
+    private volatile CatalogMarker loadedMarker;
+    private volatile boolean loaded;
+
+    /**
+     * Current catalog snapshot (loads it on first use if startup has not yet done so)
+     */
+    public BursaryCatalogSnapshot getSnapshot() {
+        if (!loaded) {
+            refresh();
+        }
+        return snapshot;
+    }
+
+    /**
+     * A bursary from the catalog, or from the database when it is newer than the
+     * current snapshot
+     */
+    public Optional<BursaryCatalogEntry> findEntry(Long id) {
+        Optional<BursaryCatalogEntry> entry = getSnapshot().find(id);
+        if (entry.isPresent()) {
+            return entry;
+        }
+        return bursaryRepository.findById(id).map(this::mapToEntry);
+    }
+
+    /**
+     * Rebuild the catalog from the database and swap it in
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void refresh() {
+        long start = System.currentTimeMillis();
+
+        CatalogMarker marker = bursaryRepository.findCatalogMarker();
+        List<BursaryCatalogEntry> entries = bursaryRepository.findAllWithProvider().stream()
+                .map(this::mapToEntry)
+                .collect(Collectors.toList());
+
+        BursaryCatalogSnapshot previous = snapshot;
+        snapshot = new BursaryCatalogSnapshot(previous.getVersion() + 1, contentTag(marker), entries, LocalDateTime.now(clock));
+        loadedMarker = marker;
+        loaded = true;
+
+        eventPublisher.publishEvent(new BursaryCatalogChangedEvent(previous, snapshot));
+
+        log.info("Loaded bursary catalog version {} ({} bursaries) in {} ms",
+                snapshot.getVersion(), entries.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Rebuild the catalog if bursaries or providers changed since the last load
+     */
+    @Scheduled(fixedDelayString = "${bursary.catalog.refresh-interval-ms:60000}",
+            initialDelayString = "${bursary.catalog.refresh-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void refreshIfChanged() {
+        CatalogMarker marker = bursaryRepository.findCatalogMarker();
+        CatalogMarker current = loadedMarker;
+
+        if (current != null
+                && marker.getBursaryCount() == current.getBursaryCount()
+                && Objects.equals(marker.getLastBursaryUpdate(), current.getLastBursaryUpdate())
+                && Objects.equals(marker.getLastProviderUpdate(), current.getLastProviderUpdate())) {
+            return;
+        }
+
+        refresh();
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * Catalog tag from persisted state: row count plus latest bursary and provider updates
+     */
+    private static String contentTag(CatalogMarker marker) {
+        return marker.getBursaryCount() + "-" + epochMicros(marker.getLastBursaryUpdate())
+                + "-" + epochMicros(marker.getLastProviderUpdate());
+    }
+
+    private static long epochMicros(LocalDateTime time) {
+        return time == null ? 0 : time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private BursaryCatalogEntry mapToEntry(Bursary bursary) {
+        Provider provider = bursary.getProvider();
+        JsonNode criteria = readCriteria(bursary);
+
+        return BursaryCatalogEntry.builder()
+                .id(bursary.getId())
+                .title(bursary.getTitle())
+                .description(bursary.getDescription())
+                .amount(bursary.getAmount())
+                .applicationDeadline(bursary.getApplicationDeadline())
+                .active(Boolean.TRUE.equals(bursary.getIsActive()))
+                .criteria(bursary.getCriteria())
+                // Criteria that are not JSON are indexed as plain text
+                .criteriaText(criteria != null ? BursaryKeywordIndex.criteriaText(criteria) : bursary.getCriteria())
+                .eligibility(compileEligibility(bursary, criteria))
+                .createdAt(bursary.getCreatedAt())
+                .updatedAt(bursary.getUpdatedAt())
+                .providerId(bursary.getProviderId())
+                .providerName(provider != null ? provider.getOrganizationName() : null)
+                .providerType(provider != null ? provider.getOrganizationType() : null)
+                .providerLocation(provider != null ? provider.getLocation() : null)
+                .build();
+    }
+
+    /**
+     * Parse the criteria JSON once per catalog load (null when blank or not JSON)
+     */
+    private JsonNode readCriteria(Bursary bursary) {
+        if (bursary.getCriteria() == null || bursary.getCriteria().isBlank()) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readTree(bursary.getCriteria());
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable criteria of bursary {}: {}", bursary.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Compile parsed criteria; unreadable criteria match no learner
+     */
+    private BursaryEligibility compileEligibility(Bursary bursary, JsonNode criteria) {
+        if (bursary.getCriteria() == null || bursary.getCriteria().isBlank()) {
+            return BursaryEligibility.OPEN;
+        }
+        if (criteria == null) {
+            return BursaryEligibility.UNREADABLE;
+        }
+
+        try {
+            return BursaryEligibility.compile(criteria);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring unreadable criteria of bursary {}: {}", bursary.getId(), e.getMessage());
+            return BursaryEligibility.UNREADABLE;
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.bursary.platform.Services;
+
+import com.bursary.platform.Search.BursaryCatalogChangedEvent;
+import com.bursary.platform.Search.BursaryCatalogEntry;
+import com.bursary.platform.Search.BursaryCatalogSnapshot;
+import com.bursary.platform.Search.BursaryEligibility;
+import com.bursary.platform.Search.FixedPoint;
+import com.bursary.platform.Search.LearnerProfileChangedEvent;
+import com.bursary.platform.Search.LearnerSearchDocument;
+import com.bursary.platform.Search.LearnerSearchIndex;
+import com.bursary.platform.Search.LearnerSummaryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the top recommended bursaries of every searchable learner in memory, so a
+ * "recommended for you" request is a map lookup. Learner changes and catalog changes
+ * only queue work; a scheduled pass recomputes queued learners and merges added or
+ * changed bursaries into the lists they could enter. Everything is recomputed at
+ * startup and when the day changes (deadline scores depend on the date).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BursaryRecommendationService {
+
+    // Score weights (points)
+    private static final int POINTS_PER_RULE = 40; // Targeted criteria the learner meets
+    private static final int MAX_AMOUNT_POINTS = 30; // One point per R10k
+    private static final long CENTS_PER_AMOUNT_POINT = 1_000_000;
+    private static final int MAX_DEADLINE_POINTS = 30; // Closing soon, within 90 days
+    private static final int DAYS_PER_DEADLINE_POINT = 3;
+
+    private final BursaryCatalogService catalogService;
+    private final LearnerSearchIndex searchIndex;
+    private final LearnerSearchIndexService searchIndexService;
+    private final Clock clock;
+
+    @Value("${bursary.recommendations.size:10}")
+    private int recommendationCount;
+
+    private final Map<Long, List<Recommendation>> recommendationsByLearner = new ConcurrentHashMap<>();
+    // Bumped whenever the pipeline queues or writes a learner, to order on-demand results against it
+    private final Map<Long, Long> learnerGenerations = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyLearners = ConcurrentHashMap.newKeySet();
+    private final Set<Long> changedBursaries = ConcurrentHashMap.newKeySet();
+    private LocalDate computedOn;
+
+    /**
+     * IDs of the learner's recommended bursaries, best first. A learner the pipeline
+     * has not reached yet is computed on the spot.
+     */
+    public List<Long> getRecommendedBursaryIds(Long learnerId) {
+        List<Recommendation> recommendations = recommendationsByLearner.get(learnerId);
+        if (recommendations == null) {
+            recommendations = computeOnDemand(learnerId);
+        }
+
+        return recommendations.stream()
+                .map(Recommendation::bursaryId)
+                .toList();
+    }
+
+    @TransactionalEventListener
+    public void onSummaryChanged(LearnerSummaryChangedEvent event) {
+        markDirty(event.getLearnerId());
+    }
+
+    @TransactionalEventListener
+    public void onProfileChanged(LearnerProfileChangedEvent event) {
+        markDirty(event.getLearnerId());
+    }
+
+    /**
+     * Record bursaries that were added, changed or removed by a catalog swap
+     */
+    @EventListener
+    public void onCatalogChanged(BursaryCatalogChangedEvent event) {
+        BursaryCatalogSnapshot previous = event.getPrevious();
+        BursaryCatalogSnapshot current = event.getCurrent();
+
+        for (BursaryCatalogEntry entry : current.getAll()) {
+            if (!previous.find(entry.getId()).map(previousEntry -> sameScoringInputs(previousEntry, entry)).orElse(false)) {
+                changedBursaries.add(entry.getId());
+            }
+        }
+        for (BursaryCatalogEntry entry : previous.getAll()) {
+            if (current.find(entry.getId()).isEmpty()) {
+                changedBursaries.add(entry.getId());
+            }
+        }
+    }
+
+    /**
+     * Apply queued bursary and learner changes
+     */
+    @Scheduled(fixedDelayString = "${bursary.recommendations.refresh-interval-ms:5000}")
+    public synchronized void processPending() {
+        if (!searchIndex.isReady()) {
+            return;
+        }
+
+        BursaryCatalogSnapshot snapshot = catalogService.getSnapshot();
+        LocalDate today = LocalDate.now(clock);
+
+        // First run after startup, or a new day: recompute everyone
+        if (!today.equals(computedOn)) {
+            dirtyLearners.addAll(recommendationsByLearner.keySet());
+            for (long learnerId : searchIndex.learnerIds()) {
+                dirtyLearners.add(learnerId);
+            }
+            changedBursaries.clear();
+            computedOn = today;
+            log.info("Queued {} learners for bursary recommendations", dirtyLearners.size());
+        }
+
+        Set<Long> bursaryIds = drain(changedBursaries);
+        if (!bursaryIds.isEmpty()) {
+            mergeChangedBursaries(bursaryIds, snapshot, today);
+        }
+
+        Set<Long> learnerIds = drain(dirtyLearners);
+        if (learnerIds.isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        for (Long learnerId : learnerIds) {
+            Optional<LearnerSearchDocument> document = searchIndex.find(learnerId);
+            List<Recommendation> recommendations = document
+                    .map(learner -> compute(learner, snapshot, today))
+                    .orElse(null);
+
+            // Bump the generation with the write so an on-demand result computed before it is dropped
+            learnerGenerations.compute(learnerId, (id, current) -> {
+                if (recommendations != null) {
+                    recommendationsByLearner.put(learnerId, recommendations);
+                } else {
+                    // Not searchable (no results yet); recomputed on demand if requested
+                    recommendationsByLearner.remove(learnerId);
+                }
+                return current == null ? 1L : current + 1;
+            });
+        }
+
+        log.debug("Recomputed bursary recommendations for {} learners in {} ms",
+                learnerIds.size(), System.currentTimeMillis() - start);
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * Compute a learner's list outside any map lock (it may read the database), then keep
+     * it only if the learner was not queued or rewritten and the catalog did not change
+     * meanwhile. putIfAbsent never replaces a newer result from processPending.
+     */
+    private List<Recommendation> computeOnDemand(Long learnerId) {
+        long generation = learnerGenerations.getOrDefault(learnerId, 0L);
+        BursaryCatalogSnapshot snapshot = catalogService.getSnapshot();
+        List<Recommendation> computed = compute(searchIndexService.findDocument(learnerId), snapshot, LocalDate.now(clock));
+
+        AtomicReference<List<Recommendation>> result = new AtomicReference<>(computed);
+        learnerGenerations.compute(learnerId, (id, current) -> {
+            if ((current == null ? 0L : current) == generation
+                    && catalogService.getSnapshot().getVersion() == snapshot.getVersion()) {
+                List<Recommendation> existing = recommendationsByLearner.putIfAbsent(learnerId, computed);
+                if (existing != null) {
+                    result.set(existing);
+                }
+            }
+            return current;
+        });
+
+        return result.get();
+    }
+
+    private void markDirty(Long learnerId) {
+        learnerGenerations.merge(learnerId, 1L, Long::sum);
+        dirtyLearners.add(learnerId);
+    }
+
+    /**
+     * Lists holding a changed or removed bursary are recomputed; other lists only
+     * need the changed bursaries scored and merged in
+     */
+    private void mergeChangedBursaries(Set<Long> bursaryIds, BursaryCatalogSnapshot snapshot, LocalDate today) {
+        List<BursaryCatalogEntry> candidates = bursaryIds.stream()
+                .map(snapshot::find)
+                .flatMap(Optional::stream)
+                .filter(entry -> entry.isOpenOn(today))
+                .toList();
+
+        for (Map.Entry<Long, List<Recommendation>> learner : recommendationsByLearner.entrySet()) {
+            boolean stale = learner.getValue().stream()
+                    .anyMatch(recommendation -> bursaryIds.contains(recommendation.bursaryId()));
+
+            if (stale) {
+                dirtyLearners.add(learner.getKey());
+                continue;
+            }
+
+            if (candidates.isEmpty()) {
+                continue;
+            }
+
+            Optional<LearnerSearchDocument> document = searchIndex.find(learner.getKey());
+            if (document.isEmpty()) {
+                dirtyLearners.add(learner.getKey());
+                continue;
+            }
+
+            List<Recommendation> merged = new ArrayList<>(learner.getValue());
+            merged.addAll(score(BursaryEligibility.Applicant.of(document.get()), candidates, today));
+            learner.setValue(topN(merged));
+        }
+    }
+
+    private List<Recommendation> compute(LearnerSearchDocument document, BursaryCatalogSnapshot snapshot, LocalDate today) {
+        List<BursaryCatalogEntry> open = snapshot.getActive().stream()
+                .filter(entry -> entry.isOpenOn(today))
+                .toList();
+
+        return topN(score(BursaryEligibility.Applicant.of(document), open, today));
+    }
+
+    private List<Recommendation> score(BursaryEligibility.Applicant applicant,
+                                       List<BursaryCatalogEntry> entries, LocalDate today) {
+        List<Recommendation> scored = new ArrayList<>();
+
+        for (BursaryCatalogEntry entry : entries) {
+            if (entry.getEligibility().matches(applicant)) {
+                scored.add(new Recommendation(entry.getId(), score(entry, today)));
+            }
+        }
+
+        return scored;
+    }
+
+    /**
+     * Bursaries aimed at the learner's profile first, then larger amounts and nearer deadlines
+     */
+    private static int score(BursaryCatalogEntry entry, LocalDate today) {
+        int score = entry.getEligibility().ruleCount() * POINTS_PER_RULE;
+
+        if (entry.getAmount() != null) {
+            score += (int) Math.min(MAX_AMOUNT_POINTS,
+                    Math.max(0, FixedPoint.toHundredths(entry.getAmount()) / CENTS_PER_AMOUNT_POINT));
+        }
+
+        if (entry.getApplicationDeadline() != null) {
+            long daysLeft = ChronoUnit.DAYS.between(today, entry.getApplicationDeadline());
+            score += (int) Math.max(0, MAX_DEADLINE_POINTS - daysLeft / DAYS_PER_DEADLINE_POINT);
+        }
+
+        return score;
+    }
+
+    /**
+     * Whether two versions of a bursary score and match alike. Compares the source fields
+     * rather than the entries, whose compiled eligibility has identity equality.
+     */
+    private static boolean sameScoringInputs(BursaryCatalogEntry previous, BursaryCatalogEntry current) {
+        return previous.isActive() == current.isActive()
+                && Objects.equals(previous.getCriteria(), current.getCriteria())
+                && Objects.equals(previous.getApplicationDeadline(), current.getApplicationDeadline())
+                && Objects.equals(previous.getUpdatedAt(), current.getUpdatedAt())
+                && (previous.getAmount() == null
+                        ? current.getAmount() == null
+                        : current.getAmount() != null && previous.getAmount().compareTo(current.getAmount()) == 0);
+    }
+
+    private List<Recommendation> topN(List<Recommendation> recommendations) {
+        return recommendations.stream()
+                .sorted(Comparator.comparingInt(Recommendation::score).reversed()
+                        .thenComparingLong(Recommendation::bursaryId))
+                .limit(recommendationCount)
+                .toList();
+    }
+
+    private static Set<Long> drain(Set<Long> pending) {
+        Set<Long> drained = new HashSet<>();
+        for (Iterator<Long> iterator = pending.iterator(); iterator.hasNext(); ) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    private record Recommendation(long bursaryId, int score) {
+    }
+}
@@ -1,20 +1,37 @@
 package com.bursary.platform.Services;
 
 import com.bursary.platform.DTOs.BursaryDetailResponse;
+import com.bursary.platform.DTOs.BursarySearchPageResponse;
 import com.bursary.platform.DTOs.BursarySearchRequest;
 import com.bursary.platform.DTOs.BursarySummaryResponse;
+import com.bursary.platform.DTOs.BursarySummaryRow;
+import com.bursary.platform.DTOs.ResourceVersion;
 import com.bursary.platform.Entities.Bursary;
 import com.bursary.platform.Entities.Provider;
 import com.bursary.platform.Exceptions.ResourceNotFoundException;
 import com.bursary.platform.Repositories.BursaryRepository;
+import com.bursary.platform.Search.BursaryCatalogEntry;
+import com.bursary.platform.Search.BursaryCatalogSnapshot;
+import com.bursary.platform.Search.BursaryEligibility;
+import com.bursary.platform.Search.BursarySearchCursor;
+import com.bursary.platform.Search.BursarySearchQuery;
+import com.bursary.platform.Search.BursarySortField;
+import com.bursary.platform.Search.LocationNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,87 +39,233 @@ import java.util.stream.Collectors;
 @Slf4j
 public class BursaryService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final BursaryRepository bursaryRepository;
+    private final BursaryCatalogService catalogService;
+    private final LearnerSearchIndexService searchIndexService;
+    private final BursaryRecommendationService recommendationService;
+    private final Clock clock;
+
+    private volatile AvailableView availableView;
 
     /**
-     * Get all active bursaries
+     * Get all active bursaries (served from the in-memory catalog, ordered by deadline)
      */
-    @Transactional(readOnly = true)
     public List<BursarySummaryResponse> getAllActiveBursaries() {
         log.info("Fetching all active bursaries");
 
-        List<Bursary> bursaries = bursaryRepository.findByIsActiveTrue();
+        LocalDate today = LocalDate.now(clock);
 
-        return bursaries.stream()
-                .map(this::mapToSummary)
-                .sorted(Comparator.comparing(BursarySummaryResponse::getApplicationDeadline))
+        return catalogService.getSnapshot().getActive().stream()
+                .map(entry -> mapToSummary(entry, today))
                 .collect(Collectors.toList());
     }
 
     /**
-     * Get all available bursaries (active + deadline not passed)
+     * Get all available bursaries (active + deadline not passed), from the in-memory catalog.
+     * The list is built once and reused until the catalog changes or the earliest listed
+     * deadline passes (local midnight after that day), the only moments it can change.
      */
-    @Transactional(readOnly = true)
     public List<BursarySummaryResponse> getAvailableBursaries() {
         log.info("Fetching available bursaries");
 
-        List<Bursary> bursaries = bursaryRepository.findAvailableBursaries(LocalDate.now());
+        return currentAvailableView().bursaries();
+    }
+
+    /**
+     * Version of the active bursaries list: changes with the persisted catalog and with
+     * the date (availability flags). Computed in memory, for conditional GETs.
+     */
+    public ResourceVersion getActiveBursariesVersion() {
+        BursaryCatalogSnapshot snapshot = catalogService.getSnapshot();
+        LocalDate today = LocalDate.now(clock);
+
+        return new ResourceVersion(
+                "\"bursaries-" + snapshot.getContentTag() + "-" + today + "\"",
+                lastModified(snapshot, today));
+    }
+
+    /**
+     * Version of the available bursaries list: changes with the catalog and when the
+     * earliest listed deadline passes. ETag and Last-Modified both come from the cached
+     * view, so they change together. Computed in memory, for conditional GETs.
+     */
+    public ResourceVersion getAvailableBursariesVersion() {
+        AvailableView view = currentAvailableView();
 
-        return bursaries.stream()
-                .map(this::mapToSummary)
+        return new ResourceVersion(
+                "\"available-" + view.catalogTag() + "-" + view.expiresAt().getEpochSecond() + "\"",
+                view.lastModified());
+    }
+
+    /**
+     * Open bursaries whose criteria the learner meets, ordered by deadline. Criteria are
+     * pre-compiled in the catalog, so this is one pass of in-memory checks.
+     */
+    public List<BursarySummaryResponse> getEligibleBursaries(Long learnerId) {
+        log.info("Fetching eligible bursaries for learner ID: {}", learnerId);
+
+        LocalDate today = LocalDate.now(clock);
+        BursaryEligibility.Applicant applicant =
+                BursaryEligibility.Applicant.of(searchIndexService.findDocument(learnerId));
+
+        return catalogService.getSnapshot().getActive().stream()
+                .filter(entry -> entry.isOpenOn(today) && entry.getEligibility().matches(applicant))
+                .map(entry -> mapToSummary(entry, today))
                 .collect(Collectors.toList());
     }
 
     /**
-     * Search bursaries with filters
+     * Precomputed recommendations for the learner, best first. Bursaries that closed
+     * since the list was computed are skipped.
+     */
+    public List<BursarySummaryResponse> getRecommendedBursaries(Long learnerId) {
+        log.info("Fetching recommended bursaries for learner ID: {}", learnerId);
+
+        LocalDate today = LocalDate.now(clock);
+        BursaryCatalogSnapshot snapshot = catalogService.getSnapshot();
+
+        return recommendationService.getRecommendedBursaryIds(learnerId).stream()
+                .map(snapshot::find)
+                .flatMap(Optional::stream)
+                .filter(entry -> entry.isOpenOn(today))
+                .map(entry -> mapToSummary(entry, today))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Search bursaries with filters, one page at a time. Ordering and paging run in the
+     * database (keyset on the sort value and ID); keyword matches and the provider
+     * location filter are resolved from the catalog first and passed in as ID lists.
+     * Keyword searches without an explicit sort are paged in relevance order instead.
      */
     @Transactional(readOnly = true)
-    public List<BursarySummaryResponse> searchBursaries(BursarySearchRequest searchRequest) {
+    public BursarySearchPageResponse searchBursaries(BursarySearchRequest searchRequest) {
         log.info("Searching bursaries with filters: {}", searchRequest);
 
-        // Log each parameter to see which one is causing issues
-        log.debug("keyword: {}, type: {}", searchRequest.getKeyword(),
-                searchRequest.getKeyword() != null ? searchRequest.getKeyword().getClass() : "null");
-        log.debug("providerType: {}, type: {}", searchRequest.getProviderType(),
-                searchRequest.getProviderType() != null ? searchRequest.getProviderType().getClass() : "null");
-        log.debug("location: {}, type: {}", searchRequest.getLocation(),
-                searchRequest.getLocation() != null ? searchRequest.getLocation().getClass() : "null");
-
-        // Default isActive to true if not specified
-        Boolean isActive = searchRequest.getIsActive() != null ? searchRequest.getIsActive() : true;
-
-        try {
-            List<Bursary> bursaries = bursaryRepository.searchBursaries(
-                    searchRequest.getKeyword(),
-                    searchRequest.getMinAmount(),
-                    searchRequest.getMaxAmount(),
-                    searchRequest.getProviderType(),
-                    searchRequest.getLocation(),
-                    isActive,
-                    searchRequest.getDeadlineAfter(),
-                    searchRequest.getDeadlineBefore()
-            );
-
-            // Apply sorting
-            List<BursarySummaryResponse> results = bursaries.stream()
-                    .map(this::mapToSummary)
-                    .collect(Collectors.toList());
-
-            return applySorting(results, searchRequest.getSortBy(), searchRequest.getSortDirection());
-
-        } catch (Exception e) {
-            log.error("Error during bursary search. Request: {}", searchRequest, e);
-            throw e; // Re-throw to see full stack trace
+        int size = searchRequest.getSize() != null ? searchRequest.getSize() : DEFAULT_PAGE_SIZE;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (searchRequest.getPage() != null && searchRequest.getPage() < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+
+        boolean hasKeyword = searchRequest.getKeyword() != null && !searchRequest.getKeyword().isBlank();
+        boolean hasSort = searchRequest.getSortBy() != null && !searchRequest.getSortBy().isBlank();
+        boolean byRelevance = hasKeyword && !hasSort;
+
+        BursarySortField sortField = byRelevance ? null
+                : hasSort ? BursarySortField.from(searchRequest.getSortBy()) : BursarySortField.DEADLINE;
+        boolean descending = "desc".equalsIgnoreCase(searchRequest.getSortDirection());
+        String sort = byRelevance ? "relevance" : sortField.getName() + (descending ? ":desc" : ":asc");
+
+        BursarySearchCursor after = searchRequest.getCursor() != null
+                ? BursarySearchCursor.decode(searchRequest.getCursor())
+                : null;
+        if (after != null) {
+            if (!sort.equals(after.getSort())) {
+                throw new IllegalArgumentException("Search cursor does not match the requested sort");
+            }
+            if (sortField != null && after.getValue() != null) {
+                try {
+                    sortField.parse(after.getValue());
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("Invalid search cursor");
+                }
+            }
+        }
+        Integer page = after == null ? (searchRequest.getPage() != null ? searchRequest.getPage() : 0) : null;
+
+        BursaryCatalogSnapshot snapshot = catalogService.getSnapshot();
+        BursarySearchQuery.BursarySearchQueryBuilder query = BursarySearchQuery.builder()
+                .minAmount(searchRequest.getMinAmount())
+                .maxAmount(searchRequest.getMaxAmount())
+                .providerType(searchRequest.getProviderType())
+                // Default isActive to true if not specified
+                .isActive(searchRequest.getIsActive() != null ? searchRequest.getIsActive() : true)
+                .deadlineAfter(searchRequest.getDeadlineAfter())
+                .deadlineBefore(searchRequest.getDeadlineBefore())
+                .sortField(sortField)
+                .descending(descending);
+
+        // Keyword matches come from the catalog's inverted index, best match first
+        List<Long> rankedIds = null;
+        if (hasKeyword) {
+            rankedIds = snapshot.getKeywordIndex().search(searchRequest.getKeyword());
+            if (rankedIds.isEmpty()) {
+                return emptyPage(page, size);
+            }
+            query.bursaryIds(rankedIds);
+        }
+
+        // Provider location matches when it carries every canonical token of the filter
+        Set<String> locationTokens = LocationNormalizer.tokenize(searchRequest.getLocation());
+        if (!locationTokens.isEmpty()) {
+            Set<Long> providerIds = findProvidersIn(snapshot, locationTokens);
+            if (providerIds.isEmpty()) {
+                return emptyPage(page, size);
+            }
+            query.providerIds(providerIds);
+        }
+
+        if (byRelevance) {
+            return relevancePage(query.build(), rankedIds, after, page, size);
+        }
+
+        int offset = page != null ? (int) Math.min((long) page * size, Integer.MAX_VALUE) : 0;
+        List<BursarySummaryRow> bursaries = bursaryRepository.search(query.build(), after, offset, size + 1);
+
+        boolean hasMore = bursaries.size() > size;
+        if (hasMore) {
+            bursaries = bursaries.subList(0, size);
         }
+
+        // Count once per search: free when everything fits on the first page, carried in the cursor after that
+        long total;
+        if (after != null) {
+            total = after.getTotal();
+        } else if (offset == 0 && !hasMore) {
+            total = bursaries.size();
+        } else {
+            total = bursaryRepository.countSearch(query.build());
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            BursarySummaryRow last = bursaries.get(bursaries.size() - 1);
+            nextCursor = new BursarySearchCursor(sort, sortField.valueOf(last), last.getId(), total).encode();
+        }
+
+        log.info("Found {} bursaries on this page ({} total, more: {})", bursaries.size(), total, hasMore);
+
+        LocalDate today = LocalDate.now(clock);
+
+        return BursarySearchPageResponse.builder()
+                .results(bursaries.stream().map(row -> mapToSummary(row, today)).collect(Collectors.toList()))
+                .page(page)
+                .size(size)
+                .totalElements(total)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     /**
-     * Get bursary details by ID
+     * Get bursary details by ID. Served from the catalog; the database is only consulted
+     * for IDs the catalog does not know yet (e.g. created since the last refresh).
      */
     @Transactional(readOnly = true)
     public BursaryDetailResponse getBursaryById(Long id) {
         log.info("Fetching bursary details for ID: {}", id);
 
+        Optional<BursaryCatalogEntry> entry = catalogService.getSnapshot().find(id);
+        if (entry.isPresent()) {
+            return mapToDetail(entry.get());
+        }
+
         Bursary bursary = bursaryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Bursary not found with ID: " + id));
 
@@ -112,26 +275,64 @@ public class BursaryService {
     /**
      * Get total count of active bursaries
      */
-    @Transactional(readOnly = true)
     public long getActiveBursaryCount() {
-        return bursaryRepository.countByIsActiveTrue();
+        return catalogService.getSnapshot().getActiveCount();
     }
 
     // ========== Helper Methods ==========
 
-    private BursarySummaryResponse mapToSummary(Bursary bursary) {
-        Provider provider = bursary.getProvider();
+    private BursarySummaryResponse mapToSummary(BursaryCatalogEntry entry, LocalDate today) {
+        return BursarySummaryResponse.builder()
+                .id(entry.getId())
+                .title(entry.getTitle())
+                .amount(entry.getAmount())
+                .applicationDeadline(entry.getApplicationDeadline())
+                .providerName(entry.getProviderName() != null ? entry.getProviderName() : "Unknown")
+                .providerType(entry.getProviderType())
+                .providerLocation(entry.getProviderLocation())
+                .isActive(entry.isActive())
+                .isAvailable(entry.isOpenOn(today))
+                .build();
+    }
+
+    private BursaryDetailResponse mapToDetail(BursaryCatalogEntry entry) {
+        BursaryDetailResponse.ProviderInfo providerInfo = null;
+        if (entry.getProviderName() != null) {
+            providerInfo = BursaryDetailResponse.ProviderInfo.builder()
+                    .id(entry.getProviderId())
+                    .organizationName(entry.getProviderName())
+                    .organizationType(entry.getProviderType())
+                    .location(entry.getProviderLocation())
+                    .build();
+        }
+
+        return BursaryDetailResponse.builder()
+                .id(entry.getId())
+                .title(entry.getTitle())
+                .description(entry.getDescription())
+                .amount(entry.getAmount())
+                .applicationDeadline(entry.getApplicationDeadline())
+                .isActive(entry.isActive())
+                .criteria(entry.getCriteria())
+                .createdAt(entry.getCreatedAt())
+                .provider(providerInfo)
+                .build();
+    }
+
+    private BursarySummaryResponse mapToSummary(BursarySummaryRow row, LocalDate today) {
+        boolean active = Boolean.TRUE.equals(row.getIsActive());
 
         return BursarySummaryResponse.builder()
-                .id(bursary.getId())
-                .title(bursary.getTitle())
-                .amount(bursary.getAmount())
-                .applicationDeadline(bursary.getApplicationDeadline())
-                .providerName(provider != null ? provider.getOrganizationName() : "Unknown")
-                .providerType(provider != null ? provider.getOrganizationType() : null)
-                .providerLocation(provider != null ? provider.getLocation() : null)
-                .isActive(bursary.getIsActive())
-                .isAvailable(bursary.isAvailable())
+                .id(row.getId())
+                .title(row.getTitle())
+                .amount(row.getAmount())
+                .applicationDeadline(row.getApplicationDeadline())
+                .providerName(row.getProviderName() != null ? row.getProviderName() : "Unknown")
+                .providerType(row.getProviderType())
+                .providerLocation(row.getProviderLocation())
+                .isActive(row.getIsActive())
+                // Same rule as Bursary.isAvailable()
+                .isAvailable(active && (row.getApplicationDeadline() == null || !row.getApplicationDeadline().isBefore(today)))
                 .build();
     }
 
@@ -161,32 +362,114 @@ public class BursaryService {
                 .build();
     }
 
-    private List<BursarySummaryResponse> applySorting(List<BursarySummaryResponse> bursaries,
-                                                      String sortBy, String sortDirection) {
-        if (sortBy == null || sortBy.isEmpty()) {
-            return bursaries; // Return as-is
-        }
+    /**
+     * Keyword results in relevance order: the filters run in the database over the
+     * keyword matches only, then the page is cut in rank order (cursor holds the offset)
+     */
+    private BursarySearchPageResponse relevancePage(BursarySearchQuery query, List<Long> rankedIds,
+                                                    BursarySearchCursor after, Integer page, int size) {
+        Map<Long, BursarySummaryRow> matches = new HashMap<>();
+        bursaryRepository.search(query, null, 0, rankedIds.size())
+                .forEach(bursary -> matches.put(bursary.getId(), bursary));
+
+        List<BursarySummaryRow> ranked = rankedIds.stream()
+                .map(matches::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        long offset = after != null ? after.getPosition() : (long) page * size;
+        int from = (int) Math.min(offset, ranked.size());
+        int to = Math.min(from + size, ranked.size());
+        boolean hasMore = to < ranked.size();
+        LocalDate today = LocalDate.now(clock);
+
+        return BursarySearchPageResponse.builder()
+                .results(ranked.subList(from, to).stream().map(row -> mapToSummary(row, today)).collect(Collectors.toList()))
+                .page(page)
+                .size(size)
+                .totalElements(ranked.size())
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? new BursarySearchCursor("relevance", null, to, ranked.size()).encode() : null)
+                .build();
+    }
 
-        Comparator<BursarySummaryResponse> comparator;
-
-        switch (sortBy.toLowerCase()) {
-            case "amount":
-                comparator = Comparator.comparing(BursarySummaryResponse::getAmount);
-                break;
-            case "deadline":
-                comparator = Comparator.comparing(BursarySummaryResponse::getApplicationDeadline);
-                break;
-            default:
-                return bursaries; // Invalid sort field, return as-is
+    private AvailableView currentAvailableView() {
+        BursaryCatalogSnapshot snapshot = catalogService.getSnapshot();
+        Instant now = clock.instant();
+
+        AvailableView view = availableView;
+        if (view == null || view.catalogVersion() != snapshot.getVersion() || !now.isBefore(view.expiresAt())) {
+            view = buildAvailableView(snapshot);
+            availableView = view;
         }
 
-        // Apply sort direction
-        if ("desc".equalsIgnoreCase(sortDirection)) {
-            comparator = comparator.reversed();
+        return view;
+    }
+
+    /**
+     * Catalog lists only change on a catalog swap or at local midnight
+     */
+    private long lastModified(BursaryCatalogSnapshot snapshot, LocalDate today) {
+        Instant loadedAt = snapshot.getLoadedAt().atZone(clock.getZone()).toInstant();
+        Instant startOfDay = today.atStartOfDay(clock.getZone()).toInstant();
+
+        // Compare as instants first: the empty snapshot's loadedAt is out of epoch-milli range
+        return (loadedAt.isAfter(startOfDay) ? loadedAt : startOfDay).toEpochMilli();
+    }
+
+    private AvailableView buildAvailableView(BursaryCatalogSnapshot snapshot) {
+        LocalDate today = LocalDate.now(clock);
+        List<BursaryCatalogEntry> available = snapshot.getAvailable(today);
+
+        // Entries are ordered by deadline, so the first one leaves the list first;
+        // nothing joins the list as time passes, only on a catalog change
+        Instant expiresAt = available.isEmpty()
+                ? Instant.MAX
+                : available.get(0).getApplicationDeadline().plusDays(1).atStartOfDay(clock.getZone()).toInstant();
+
+        List<BursarySummaryResponse> bursaries = available.stream()
+                .map(entry -> mapToSummary(entry, today))
+                .toList();
+
+        log.debug("Built available bursaries view for {} ({} bursaries, valid until {})",
+                today, bursaries.size(), expiresAt);
+
+        return new AvailableView(snapshot.getVersion(), snapshot.getContentTag(), expiresAt,
+                lastModified(snapshot, today), bursaries);
+    }
+
+    private BursarySearchPageResponse emptyPage(Integer page, int size) {
+        return BursarySearchPageResponse.builder()
+                .results(List.of())
+                .page(page)
+                .size(size)
+                .totalElements(0)
+                .hasMore(false)
+                .build();
+    }
+
+    /**
+     * Providers whose location matches every token, memoized per distinct location string
+     */
+    private Set<Long> findProvidersIn(BursaryCatalogSnapshot snapshot, Set<String> locationTokens) {
+        Map<String, Boolean> matchesByLocation = new HashMap<>();
+        Set<Long> providerIds = new HashSet<>();
+
+        for (BursaryCatalogEntry entry : snapshot.getAll()) {
+            String location = entry.getProviderLocation();
+            if (location != null && matchesByLocation.computeIfAbsent(location,
+                    value -> LocationNormalizer.matches(locationTokens, value))) {
+                providerIds.add(entry.getProviderId());
+            }
         }
 
-        return bursaries.stream()
-                .sorted(comparator)
-                .collect(Collectors.toList());
+        return providerIds;
+    }
+
+    /**
+     * Available bursaries as built for one catalog version, valid until the first listed deadline passes
+     */
+    private record AvailableView(long catalogVersion, String catalogTag, Instant expiresAt, long lastModified,
+                                 List<BursarySummaryResponse> bursaries) {
     }
-}
\ No newline at end of file
+}
@@ -7,6 +7,7 @@ import com.bursary.platform.DTOs.LearnerSearchResultResponse;
 import com.bursary.platform.Entities.Learner;
 import com.bursary.platform.Entities.Provider;
 import com.bursary.platform.Entities.ProviderLearnerFollow;
+import com.bursary.platform.Events.LearnerFollowedEvent;
 import com.bursary.platform.Exceptions.DuplicateResourceException;
 import com.bursary.platform.Exceptions.ResourceNotFoundException;
 import com.bursary.platform.Repositories.LearnerRepository;
@@ -14,13 +15,17 @@ import com.bursary.platform.Repositories.ProviderLearnerFollowRepository;
 import com.bursary.platform.Repositories.ProviderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -30,7 +35,14 @@ public class FollowService {
     private final ProviderLearnerFollowRepository followRepository;
     private final ProviderRepository providerRepository;
     private final LearnerRepository learnerRepository;
-    private final NotificationService notificationService;
+    private final OutboxService outboxService;
+    private final CacheManager cacheManager;
+
+    /**
+     * Bumped per provider after every committed follow/unfollow, so a read that
+     * started before the commit cannot cache the set it loaded.
+     */
+    private final Map<Long, Long> followGenerations = new ConcurrentHashMap<>();
 
     /**
      * Provider follows a learner
@@ -61,10 +73,11 @@ public class FollowService {
                 .build();
 
         follow = followRepository.save(follow);
+        invalidateFollowedLearnerIdsAfterCommit(providerId);
         log.info("Provider {} now following learner {}", providerId, learnerId);
 
-        // Create notification for learner
-        notificationService.createFollowerNotification(learnerId, provider.getOrganizationName(), follow.getId());
+        // Learner is notified by the outbox relay
+        outboxService.append(new LearnerFollowedEvent(follow.getId(), providerId, learnerId, provider.getOrganizationName()));
 
         return mapToFollowResponse(follow, learner);
     }
@@ -80,6 +93,7 @@ public class FollowService {
                 .orElseThrow(() -> new ResourceNotFoundException("Follow relationship not found"));
 
         followRepository.delete(follow);
+        invalidateFollowedLearnerIdsAfterCommit(providerId);
         log.info("Provider {} unfollowed learner {}", providerId, learnerId);
     }
 
@@ -90,37 +104,7 @@ public class FollowService {
     public List<FollowedLearnerResponse> getFollowedLearners(Long providerId) {
         log.info("Fetching followed learners for provider {}", providerId);
 
-        List<ProviderLearnerFollow> follows = followRepository.findByProviderIdOrderByFollowedAtDesc(providerId);
-
-//        return follows.stream()
-//                .map(follow -> {
-//                    Learner learner = learnerRepository.findById(follow.getLearnerId())
-//                            .orElse(null);
-//                    return learner != null ? mapToFollowResponse(follow, learner) : null;
-//                })
-//                .filter(response -> response != null)
-//                .collect(Collectors.toList());
-        return follows.stream()
-                .map(follow -> {
-                    Learner learner = learnerRepository.findById(follow.getLearnerId())
-                            .orElse(null);
-
-                    if (learner == null) return null;
-
-                    return FollowedLearnerResponse.builder()
-                            .id(learner.getId())
-                            .firstName(learner.getFirstName())
-                            .lastName(learner.getLastName())
-                            .schoolName(learner.getSchoolName())
-                            .location(learner.getLocation())
-                            .householdIncome(learner.getHouseholdIncome())
-                            .followId(follow.getId())
-                            .followedAt(follow.getFollowedAt())
-                            .notes(follow.getNotes())
-                            .build();
-                })
-                .filter(Objects::nonNull)
-                .toList();
+        return followRepository.findFollowedLearnersByProviderId(providerId);
     }
 
     /**
@@ -130,16 +114,7 @@ public class FollowService {
     public List<FollowResponse> getFollowers(Long learnerId) {
         log.info("Fetching followers for learner {}", learnerId);
 
-        List<ProviderLearnerFollow> follows = followRepository.findByLearnerIdOrderByFollowedAtDesc(learnerId);
-
-        return follows.stream()
-                .map(follow -> {
-                    Learner learner = learnerRepository.findById(follow.getLearnerId())
-                            .orElse(null);
-                    return learner != null ? mapToFollowResponse(follow, learner) : null;
-                })
-                .filter(response -> response != null)
-                .collect(Collectors.toList());
+        return followRepository.findFollowResponsesByLearnerId(learnerId);
     }
 
     /**
@@ -150,6 +125,34 @@ public class FollowService {
         return followRepository.existsByProviderIdAndLearnerId(providerId, learnerId);
     }
 
+    /**
+     * Get sorted IDs of all learners a provider follows (cached per provider).
+     * Use Arrays.binarySearch for membership; the returned array must not be modified.
+     */
+    @Transactional(readOnly = true)
+    public long[] getFollowedLearnerIds(Long providerId) {
+        Cache cache = followedLearnerIdsCache();
+        long[] cached = cache.get(providerId, long[].class);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = followGenerations.getOrDefault(providerId, 0L);
+        long[] learnerIds = followRepository.findLearnerIdsByProviderId(providerId).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+
+        // Cache only if no follow change committed while loading; putIfAbsent is
+        // applied immediately, so it is ordered against the evict below
+        followGenerations.compute(providerId, (id, current) -> {
+            if ((current == null ? 0L : current) == generation) {
+                cache.putIfAbsent(providerId, learnerIds);
+            }
+            return current;
+        });
+        return learnerIds;
+    }
+
     /**
      * Get follow statistics
      */
@@ -160,6 +163,22 @@ public class FollowService {
 
     // ========== Helper Methods ==========
 
+    private Cache followedLearnerIdsCache() {
+        return cacheManager.getCache("followedLearnerIds");
+    }
+
+    private void invalidateFollowedLearnerIdsAfterCommit(Long providerId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                followGenerations.compute(providerId, (id, current) -> {
+                    followedLearnerIdsCache().evictIfPresent(providerId);
+                    return current == null ? 1L : current + 1;
+                });
+            }
+        });
+    }
+
     private FollowResponse mapToFollowResponse(ProviderLearnerFollow follow, Learner learner) {
         return FollowResponse.builder()
                 .followId(follow.getId())
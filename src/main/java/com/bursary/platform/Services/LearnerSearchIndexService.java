@@ -0,0 +1,102 @@
+package com.bursary.platform.Services;
+
+import com.bursary.platform.Search.LearnerProfileChangedEvent;
+import com.bursary.platform.Search.LearnerSearchDocument;
+import com.bursary.platform.Search.LearnerSearchIndex;
+import com.bursary.platform.Search.LearnerSearchResultCache;
+import com.bursary.platform.Search.LearnerSummaryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Keeps the in-memory learner search index in sync with the database.
+ * The index is loaded once at startup and patched after each committed change;
+ * cached search pages that the change could affect are evicted afterwards.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LearnerSearchIndexService {
+
+    private final LearnerSearchIndex searchIndex;
+    private final LearnerSearchResultCache resultCache;
+    private final LearnerSearchSummaryService searchSummaryService;
+
+    /**
+     * Load the index after summaries have been backfilled and before saved searches
+     * are bucketed by subject counts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void loadIndex() {
+        long start = System.currentTimeMillis();
+
+        searchIndex.beginLoad();
+        List<LearnerSearchDocument> documents = searchSummaryService.loadSearchDocuments();
+        searchIndex.load(documents);
+        resultCache.clear();
+
+        log.info("Loaded {} learners into search index in {} ms",
+                documents.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Current search document of a learner: from the index when it holds the learner,
+     * otherwise as stored in the database
+     */
+    public LearnerSearchDocument findDocument(Long learnerId) {
+        return searchIndex.find(learnerId)
+                .orElseGet(() -> searchSummaryService.findDocument(learnerId));
+    }
+
+    /**
+     * Apply a recomputed academic summary once its transaction has committed
+     */
+    @TransactionalEventListener
+    public void onSummaryChanged(LearnerSummaryChangedEvent event) {
+        LearnerSearchDocument previous = searchIndex.find(event.getLearnerId()).orElse(null);
+
+        LearnerSearchDocument current = null;
+        if (event.getDocument() == null) {
+            searchIndex.remove(event.getLearnerId());
+        } else {
+            // Only the academic fields: a profile change may have been applied since the summary read the learner
+            searchIndex.upsertAcademics(event.getDocument());
+            current = searchIndex.find(event.getLearnerId()).orElse(null);
+        }
+
+        resultCache.evictMatching(previous, current);
+    }
+
+    /**
+     * Apply profile changes once their transaction has committed
+     */
+    @TransactionalEventListener
+    public void onProfileChanged(LearnerProfileChangedEvent event) {
+        LearnerSearchDocument previous = searchIndex.find(event.getLearnerId()).orElse(null);
+
+        // Not indexed yet during a load: the index keeps the change for the loaded document
+        searchIndex.updateProfile(event);
+
+        // Learners without a summary are not indexed and cannot appear in cached results
+        if (previous == null) {
+            return;
+        }
+
+        resultCache.evictMatching(previous, previous.toBuilder()
+                .firstName(event.getFirstName())
+                .lastName(event.getLastName())
+                .schoolName(event.getSchoolName())
+                .location(event.getLocation())
+                .householdIncome(event.getHouseholdIncome())
+                .build());
+    }
+}
@@ -0,0 +1,263 @@
+package com.bursary.platform.Services;
+
+import com.bursary.platform.Entities.AcademicYear;
+import com.bursary.platform.Entities.Learner;
+import com.bursary.platform.Entities.LearnerSearchSummary;
+import com.bursary.platform.Entities.LearnerSubjectSummary;
+import com.bursary.platform.Entities.SubjectMark;
+import com.bursary.platform.Entities.TermResult;
+import com.bursary.platform.Exceptions.ResourceNotFoundException;
+import com.bursary.platform.Repositories.AcademicYearRepository;
+import com.bursary.platform.Repositories.LearnerRepository;
+import com.bursary.platform.Repositories.LearnerSearchSummaryRepository;
+import com.bursary.platform.Repositories.LearnerSubjectSummaryRepository;
+import com.bursary.platform.Repositories.SubjectMarkRepository;
+import com.bursary.platform.Repositories.TermResultRepository;
+import com.bursary.platform.Search.FixedPoint;
+import com.bursary.platform.Search.LearnerSearchDocument;
+import com.bursary.platform.Search.LearnerSummaryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the learner_search_summary read model used by provider search.
+ * Summaries are recomputed from the learner's latest academic year inside the
+ * same transaction as the academic write that changed them, and a
+ * LearnerSummaryChangedEvent is published for in-memory consumers.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LearnerSearchSummaryService {
+
+    private final LearnerSearchSummaryRepository summaryRepository;
+    private final LearnerSubjectSummaryRepository subjectSummaryRepository;
+    private final AcademicYearRepository academicYearRepository;
+    private final TermResultRepository termResultRepository;
+    private final SubjectMarkRepository subjectMarkRepository;
+    private final LearnerRepository learnerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Recompute the search summary for a learner (joins the caller's transaction).
+     * The learner row is locked first, so concurrent recomputes for one learner run one
+     * after the other and each reads the academic rows the previous one committed.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refreshLearner(Long learnerId) {
+        Learner learner = learnerRepository.findByIdForUpdate(learnerId).orElse(null);
+        LearnerSearchDocument previous = learner != null ? findStoredDocument(learner) : null;
+
+        List<AcademicYear> academicYears = academicYearRepository.findByLearnerIdOrderByYearDescGradeLevelDesc(learnerId);
+
+        if (academicYears.isEmpty()) {
+            removeLearner(learnerId, previous);
+            return;
+        }
+
+        // Search only considers the most recent academic year
+        AcademicYear latestYear = academicYears.get(0);
+        List<TermResult> termResults = termResultRepository.findByAcademicYearIdOrderByTermNumberAsc(latestYear.getId());
+
+        if (termResults.isEmpty()) {
+            removeLearner(learnerId, previous);
+            return;
+        }
+
+        LearnerSearchSummary summary = LearnerSearchSummary.builder()
+                .learnerId(learnerId)
+                .academicYearId(latestYear.getId())
+                .year(latestYear.getYear())
+                .gradeLevel(latestYear.getGradeLevel())
+                .termCount(termResults.size())
+                .overallAverage(FixedPoint.toDecimal(calculateOverallAverage(termResults)))
+                .highestTermAverage(FixedPoint.toDecimal(calculateHighestTermAverage(termResults)))
+                .build();
+
+        summaryRepository.save(summary);
+
+        // Replace per-subject best marks
+        List<Long> termResultIds = termResults.stream()
+                .map(TermResult::getId)
+                .collect(Collectors.toList());
+
+        List<LearnerSubjectSummary> subjectSummaries = buildSubjectSummaries(learnerId,
+                subjectMarkRepository.findByTermResultIdIn(termResultIds));
+
+        subjectSummaryRepository.deleteByLearnerId(learnerId);
+        subjectSummaryRepository.saveAll(subjectSummaries);
+
+        if (learner != null) {
+            eventPublisher.publishEvent(new LearnerSummaryChangedEvent(learnerId, previous,
+                    mapToSearchDocument(learner, summary, subjectSummaries)));
+        }
+
+        log.debug("Refreshed search summary for learner {}: grade {}, average {}",
+                learnerId, summary.getGradeLevel(), summary.getOverallAverage());
+    }
+
+    /**
+     * Build summaries for learners that have academic records but no summary yet
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void backfillMissingSummaries() {
+        List<Long> learnerIds = summaryRepository.findLearnerIdsWithoutSummary();
+
+        if (learnerIds.isEmpty()) {
+            return;
+        }
+
+        log.info("Backfilling search summaries for {} learners", learnerIds.size());
+        learnerIds.forEach(this::refreshLearner);
+    }
+
+    /**
+     * Load search documents for every learner with a summary
+     */
+    @Transactional(readOnly = true)
+    public List<LearnerSearchDocument> loadSearchDocuments() {
+        Map<Long, List<LearnerSubjectSummary>> subjectsByLearner = subjectSummaryRepository.findAll().stream()
+                .collect(Collectors.groupingBy(LearnerSubjectSummary::getLearnerId));
+
+        return summaryRepository.findAllWithLearner().stream()
+                .map(summary -> mapToSearchDocument(summary.getLearner(), summary,
+                        subjectsByLearner.getOrDefault(summary.getLearnerId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Search document of a learner as stored. Learners without an academic summary get a
+     * profile-only document (no grade, average or subject marks).
+     */
+    @Transactional(readOnly = true)
+    public LearnerSearchDocument findDocument(Long learnerId) {
+        Learner learner = learnerRepository.findById(learnerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Learner not found with ID: " + learnerId));
+
+        LearnerSearchDocument document = findStoredDocument(learner);
+        if (document != null) {
+            return document;
+        }
+
+        return LearnerSearchDocument.builder()
+                .learnerId(learner.getId())
+                .firstName(learner.getFirstName())
+                .lastName(learner.getLastName())
+                .schoolName(learner.getSchoolName())
+                .location(learner.getLocation())
+                .householdIncome(learner.getHouseholdIncome())
+                .subjectBestMarks(Map.of())
+                .build();
+    }
+
+    /**
+     * Normalize a subject name for matching (case and surrounding whitespace insensitive)
+     */
+    public static String normalizeSubject(String subjectName) {
+        return subjectName == null ? null : subjectName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ========== Helper Methods ==========
+
+    private void removeLearner(Long learnerId, LearnerSearchDocument previous) {
+        subjectSummaryRepository.deleteByLearnerId(learnerId);
+        summaryRepository.findById(learnerId).ifPresent(summaryRepository::delete);
+
+        eventPublisher.publishEvent(new LearnerSummaryChangedEvent(learnerId, previous, null));
+    }
+
+    /**
+     * Search document as currently stored, before it is recomputed (null if the learner has no summary)
+     */
+    private LearnerSearchDocument findStoredDocument(Learner learner) {
+        return summaryRepository.findById(learner.getId())
+                .map(summary -> mapToSearchDocument(learner, summary,
+                        subjectSummaryRepository.findByLearnerIdOrderBySubjectKeyAsc(learner.getId())))
+                .orElse(null);
+    }
+
+    /**
+     * Map learner profile and academic summary to a search document
+     */
+    private LearnerSearchDocument mapToSearchDocument(Learner learner, LearnerSearchSummary summary,
+                                                      List<LearnerSubjectSummary> subjectSummaries) {
+        return LearnerSearchDocument.builder()
+                .learnerId(learner.getId())
+                .firstName(learner.getFirstName())
+                .lastName(learner.getLastName())
+                .schoolName(learner.getSchoolName())
+                .location(learner.getLocation())
+                .householdIncome(learner.getHouseholdIncome())
+                .gradeLevel(summary.getGradeLevel())
+                .year(summary.getYear())
+                .overallAverage(summary.getOverallAverage())
+                .highestTermAverage(summary.getHighestTermAverage())
+                .subjectBestMarks(subjectSummaries.stream()
+                        .collect(Collectors.toMap(LearnerSubjectSummary::getSubjectKey, LearnerSubjectSummary::getBestMark)))
+                .build();
+    }
+
+    /**
+     * Calculate overall average across all terms, in hundredths
+     */
+    private long calculateOverallAverage(List<TermResult> termResults) {
+        long sum = 0;
+        for (TermResult term : termResults) {
+            if (term.getAverageMark() != null) {
+                sum += FixedPoint.toHundredths(term.getAverageMark());
+            }
+        }
+
+        return FixedPoint.average(sum, termResults.size());
+    }
+
+    /**
+     * Highest term average, in hundredths (0 when no term has an average)
+     */
+    private long calculateHighestTermAverage(List<TermResult> termResults) {
+        long highest = 0;
+        for (TermResult term : termResults) {
+            if (term.getAverageMark() != null) {
+                highest = Math.max(highest, FixedPoint.toHundredths(term.getAverageMark()));
+            }
+        }
+
+        return highest;
+    }
+
+    /**
+     * Keep the best mark per subject across the given marks
+     */
+    private List<LearnerSubjectSummary> buildSubjectSummaries(Long learnerId, List<SubjectMark> subjectMarks) {
+        Map<String, LearnerSubjectSummary> bestBySubject = new LinkedHashMap<>();
+
+        for (SubjectMark subject : subjectMarks) {
+            String subjectKey = normalizeSubject(subject.getSubjectName());
+            LearnerSubjectSummary best = bestBySubject.get(subjectKey);
+
+            if (best == null || subject.getMark().compareTo(best.getBestMark()) > 0) {
+                bestBySubject.put(subjectKey, LearnerSubjectSummary.builder()
+                        .learnerId(learnerId)
+                        .subjectKey(subjectKey)
+                        .subjectName(subject.getSubjectName().trim())
+                        .bestMark(subject.getMark())
+                        .build());
+            }
+        }
+
+        return new ArrayList<>(bestBySubject.values());
+    }
+}
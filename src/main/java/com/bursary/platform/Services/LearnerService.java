@@ -4,13 +4,16 @@ import com.bursary.platform.DTOs.*;
 import com.bursary.platform.Exceptions.*;
 import com.bursary.platform.Entities.Learner;
 import com.bursary.platform.Repositories.LearnerRepository;
+import com.bursary.platform.Search.LearnerProfileChangedEvent;
 import com.bursary.platform.Security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.util.regex.Pattern;
 
 @Service
@@ -21,6 +24,8 @@ public class LearnerService {
     private final LearnerRepository learnerRepository;
     private final BCryptPasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
 
     private static final Pattern EMAIL_PATTERN = Pattern.compile(
@@ -124,6 +129,20 @@ public class LearnerService {
         return mapToLearnerProfileResponse(learner);
     }
 
+    /**
+     * Profile version for conditional GETs, from the row's updatedAt. Read on every request
+     * (one column by primary key): a cached copy could be put back stale by a read that
+     * overlaps an update. Null when the learner does not exist.
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getProfileVersion(Long learnerId) {
+        return learnerRepository.findUpdatedAtById(learnerId)
+                .map(updatedAt -> new ResourceVersion(
+                        "\"profile-" + learnerId + "-" + updatedAt + "\"",
+                        updatedAt.atZone(clock.getZone()).toInstant().toEpochMilli()))
+                .orElse(null);
+    }
+
     /**
      * Check if email exists
      */
@@ -139,7 +158,8 @@ public class LearnerService {
     public LearnerProfileResponse updateProfile(Long learnerId, UpdateProfileRequest updateRequest) {
         log.info("Updating profile for learner ID: {}", learnerId);
 
-        Learner learner = learnerRepository.findById(learnerId)
+        // Serialized with search summary recomputes, which read the profile under the same lock
+        Learner learner = learnerRepository.findByIdForUpdate(learnerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Learner not found with ID: " + learnerId));
 
         // Check if new email is different and already exists
@@ -177,6 +197,16 @@ public class LearnerService {
         learner = learnerRepository.save(learner);
         log.info("Successfully updated profile for learner ID: {}", learnerId);
 
+        // Patch search index after commit
+        eventPublisher.publishEvent(new LearnerProfileChangedEvent(
+                learner.getId(),
+                learner.getFirstName(),
+                learner.getLastName(),
+                learner.getSchoolName(),
+                learner.getLocation(),
+                learner.getHouseholdIncome()
+        ));
+
         return mapToLearnerProfileResponse(learner);
     }
 
@@ -1,14 +1,18 @@
 package com.bursary.platform.Services;
 
+import com.bursary.platform.DTOs.ApplicationStatusRow;
 import com.bursary.platform.DTOs.NotificationResponse;
 import com.bursary.platform.Entities.Notification;
 import com.bursary.platform.Exceptions.ResourceNotFoundException;
 import com.bursary.platform.Repositories.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,6 +22,7 @@ import java.util.stream.Collectors;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * Create notification when provider follows learner
@@ -63,6 +68,86 @@ public class NotificationService {
         log.info("Result update notification created for provider {}", providerId);
     }
 
+    /**
+     * Tell every following provider that a learner updated results, as one JDBC batch
+     */
+    @Transactional
+    public void createResultUpdateNotifications(List<Long> providerIds, String learnerName, Long academicYearId) {
+        if (providerIds.isEmpty()) {
+            return;
+        }
+
+        log.info("Creating {} result update notifications", providerIds.size());
+
+        String message = String.format("%s has updated their academic results", learnerName);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO notifications (user_id, user_type, notification_type, title, message, " +
+                        "related_entity_type, related_entity_id, is_read, created_at) " +
+                        "VALUES (?, 'provider', 'result_update', 'Learner Updated Results', ?, 'academic_year', ?, FALSE, ?)",
+                providerIds,
+                providerIds.size(),
+                (statement, providerId) -> {
+                    statement.setLong(1, providerId);
+                    statement.setString(2, message);
+                    statement.setLong(3, academicYearId);
+                    statement.setTimestamp(4, createdAt);
+                });
+    }
+
+    /**
+     * Create notification when a learner newly matches a provider's saved search
+     */
+    @Transactional
+    public void createSavedSearchMatchNotification(Long providerId, String searchName, String learnerName, Long learnerId) {
+        log.info("Creating saved search match notification for provider {}", providerId);
+
+        Notification notification = Notification.builder()
+                .userId(providerId)
+                .userType("provider")
+                .notificationType("saved_search_match")
+                .title("New Learner Match")
+                .message(String.format("%s now matches your saved search \"%s\"", learnerName, searchName))
+                .relatedEntityType("learner")
+                .relatedEntityId(learnerId)
+                .isRead(false)
+                .build();
+
+        notificationRepository.save(notification);
+        log.info("Saved search match notification created for provider {}", providerId);
+    }
+
+    /**
+     * Tell learners their applications moved to the status each row carries. All rows go
+     * to the database as one JDBC batch (IDENTITY keys would make Hibernate insert them
+     * one statement at a time).
+     */
+    @Transactional
+    public void createApplicationStatusNotifications(List<ApplicationStatusRow> applications) {
+        if (applications.isEmpty()) {
+            return;
+        }
+
+        log.info("Creating {} application status notifications", applications.size());
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO notifications (user_id, user_type, notification_type, title, message, " +
+                        "related_entity_type, related_entity_id, is_read, created_at) " +
+                        "VALUES (?, 'learner', 'application_status', 'Application Update', ?, 'application', ?, FALSE, ?)",
+                applications,
+                applications.size(),
+                (statement, application) -> {
+                    statement.setLong(1, application.getLearnerId());
+                    statement.setString(2, String.format("Your application for \"%s\" is now %s",
+                            application.getBursaryTitle(), application.getStatus().replace('_', ' ')));
+                    statement.setLong(3, application.getApplicationId());
+                    statement.setTimestamp(4, createdAt);
+                });
+    }
+
     /**
      * Get all notifications for a user
      */
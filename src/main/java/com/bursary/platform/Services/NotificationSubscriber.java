@@ -0,0 +1,76 @@
+package com.bursary.platform.Services;
+
+import com.bursary.platform.DTOs.ApplicationStatusRow;
+import com.bursary.platform.DTOs.FollowResponse;
+import com.bursary.platform.Entities.Learner;
+import com.bursary.platform.Events.AcademicResultsUpdatedEvent;
+import com.bursary.platform.Events.ApplicationsReviewedEvent;
+import com.bursary.platform.Events.LearnerFollowedEvent;
+import com.bursary.platform.Events.SavedSearchesMatchedEvent;
+import com.bursary.platform.Repositories.LearnerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Creates notifications from outbox events. Runs inside the relay's transaction, so the
+ * notifications commit together with the event being marked processed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationSubscriber {
+
+    private final NotificationService notificationService;
+    private final FollowService followService;
+    private final LearnerRepository learnerRepository;
+
+    @EventListener
+    public void onLearnerFollowed(LearnerFollowedEvent event) {
+        notificationService.createFollowerNotification(event.getLearnerId(), event.getProviderName(), event.getFollowId());
+    }
+
+    @EventListener
+    public void onApplicationsReviewed(ApplicationsReviewedEvent event) {
+        List<ApplicationStatusRow> applications = event.getReviews().stream()
+                .map(review -> new ApplicationStatusRow(review.getApplicationId(), review.getLearnerId(),
+                        review.getStatus(), event.getProviderId(), review.getBursaryTitle()))
+                .collect(Collectors.toList());
+
+        notificationService.createApplicationStatusNotifications(applications);
+    }
+
+    @EventListener
+    public void onSavedSearchesMatched(SavedSearchesMatchedEvent event) {
+        for (SavedSearchesMatchedEvent.Match match : event.getMatches()) {
+            notificationService.createSavedSearchMatchNotification(
+                    match.getProviderId(), match.getSearchName(), event.getLearnerName(), event.getLearnerId());
+        }
+    }
+
+    /**
+     * Notify all providers following the learner about result updates
+     */
+    @EventListener
+    public void onAcademicResultsUpdated(AcademicResultsUpdatedEvent event) {
+        Optional<Learner> learner = learnerRepository.findById(event.getLearnerId());
+        if (learner.isEmpty()) {
+            return;
+        }
+
+        String learnerName = learner.get().getFirstName() + " " + learner.get().getLastName();
+
+        List<Long> providerIds = followService.getFollowers(event.getLearnerId()).stream()
+                .map(FollowResponse::getProviderId)
+                .collect(Collectors.toList());
+
+        notificationService.createResultUpdateNotifications(providerIds, learnerName, event.getAcademicYearId());
+
+        log.info("Notified {} followers about result update for learner {}", providerIds.size(), event.getLearnerId());
+    }
+}
@@ -0,0 +1,194 @@
+package com.bursary.platform.Services;
+
+import com.bursary.platform.Entities.OutboxEvent;
+import com.bursary.platform.Events.AcademicResultsUpdatedEvent;
+import com.bursary.platform.Events.ApplicationsReviewedEvent;
+import com.bursary.platform.Events.LearnerFollowedEvent;
+import com.bursary.platform.Events.SavedSearchesMatchedEvent;
+import com.bursary.platform.Repositories.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Transactional outbox. Write services append domain events in their own transaction,
+ * so an event exists exactly when its change committed; a scheduled relay then drains
+ * pending events in batches and publishes them to in-process subscribers
+ * ({@code @EventListener} methods), keeping fan-out work such as notifications out of
+ * request latency.
+ * <p>
+ * Each batch is relayed in one transaction that also holds the subscribers' writes, so
+ * an event is marked processed together with its effects. When a subscriber fails the
+ * batch rolls back, the failing event is retried later with backoff and the rest are
+ * relayed on the next run. Subscribers with in-memory effects should use
+ * {@code @TransactionalEventListener} so they only act once the batch commits.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    // Only events with a subscriber; anything else would cost a row and a relay for nothing
+    private static final Map<String, Class<?>> EVENT_TYPES = List.<Class<?>>of(
+                    ApplicationsReviewedEvent.class,
+                    LearnerFollowedEvent.class,
+                    AcademicResultsUpdatedEvent.class,
+                    SavedSearchesMatchedEvent.class)
+            .stream()
+            .collect(Collectors.toMap(Class::getSimpleName, Function.identity()));
+
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${bursary.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${bursary.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${bursary.outbox.retention-days:7}")
+    private int retentionDays;
+
+    /**
+     * Record an event as part of the caller's transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Object event) {
+        if (!EVENT_TYPES.containsKey(event.getClass().getSimpleName())) {
+            throw new IllegalArgumentException("Unregistered outbox event type: " + event.getClass().getName());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .eventType(event.getClass().getSimpleName())
+                    .payload(objectMapper.writeValueAsString(event))
+                    .createdAt(now)
+                    .availableAt(now)
+                    .attempts(0)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox event " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Relay pending events until none are due (or a batch fails)
+     */
+    @Scheduled(fixedDelayString = "${bursary.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        while (true) {
+            AtomicReference<FailedEvent> failure = new AtomicReference<>();
+            Integer relayed = transactionTemplate.execute(status -> relayBatch(status, failure));
+
+            if (failure.get() != null) {
+                recordFailure(failure.get());
+                return;
+            }
+            if (relayed == null || relayed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove relayed events once they are past the retention period
+     */
+    @Scheduled(cron = "${bursary.outbox.purge-cron:0 30 * * * *}")
+    @Transactional
+    public void purgeProcessed() {
+        int deleted = outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Purged {} relayed outbox events", deleted);
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private int relayBatch(TransactionStatus status, AtomicReference<FailedEvent> failure) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.lockPending(now, batchSize);
+
+        for (OutboxEvent event : events) {
+            try {
+                eventPublisher.publishEvent(deserialize(event));
+            } catch (RuntimeException e) {
+                // Undo the batch, including whatever subscribers wrote for earlier events
+                status.setRollbackOnly();
+                failure.set(new FailedEvent(event.getId(), event.getEventType(), e));
+                return 0;
+            }
+
+            event.setProcessedAt(now);
+            event.setLastError(null);
+        }
+
+        if (!events.isEmpty()) {
+            log.debug("Relayed {} outbox events", events.size());
+        }
+        return events.size();
+    }
+
+    private Object deserialize(OutboxEvent event) {
+        Class<?> type = EVENT_TYPES.get(event.getEventType());
+        if (type == null) {
+            throw new IllegalStateException("Unknown outbox event type: " + event.getEventType());
+        }
+
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload for outbox event " + event.getId(), e);
+        }
+    }
+
+    /**
+     * Count the failed attempt and schedule a retry with exponential backoff, or give up
+     * after the maximum number of attempts (the event is kept with its error)
+     */
+    private void recordFailure(FailedEvent failed) {
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(failed.eventId())
+                .ifPresent(event -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    int attempts = event.getAttempts() + 1;
+
+                    event.setAttempts(attempts);
+                    event.setLastError(String.valueOf(failed.error().getMessage()));
+
+                    if (attempts >= maxAttempts) {
+                        event.setProcessedAt(now);
+                        log.error("Giving up on outbox event {} ({}) after {} attempts",
+                                event.getId(), event.getEventType(), attempts, failed.error());
+                    } else {
+                        long backoffSeconds = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 20));
+                        event.setAvailableAt(now.plusSeconds(backoffSeconds));
+                        log.warn("Outbox event {} ({}) failed, retrying in {} s: {}",
+                                event.getId(), event.getEventType(), backoffSeconds, failed.error().getMessage());
+                    }
+                }));
+    }
+
+    private record FailedEvent(Long eventId, String eventType, RuntimeException error) {
+    }
+}
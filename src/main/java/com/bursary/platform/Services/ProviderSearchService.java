@@ -2,18 +2,27 @@ package com.bursary.platform.Services;
 
 import com.bursary.platform.DTOs.AcademicYearResponse;
 import com.bursary.platform.DTOs.LearnerProfileDetailResponse;
+import com.bursary.platform.DTOs.LearnerSearchFacets;
+import com.bursary.platform.DTOs.LearnerSearchPageResponse;
 import com.bursary.platform.DTOs.LearnerSearchRequest;
 import com.bursary.platform.DTOs.LearnerSearchResultResponse;
+import com.bursary.platform.DTOs.SubjectThreshold;
 import com.bursary.platform.Entities.*;
 import com.bursary.platform.Exceptions.ResourceNotFoundException;
 import com.bursary.platform.Repositories.*;
+import com.bursary.platform.Search.LearnerSearchCursor;
+import com.bursary.platform.Search.LearnerSearchDocument;
+import com.bursary.platform.Search.LearnerSearchFilter;
+import com.bursary.platform.Search.LearnerSearchHits;
+import com.bursary.platform.Search.LearnerSearchIndex;
+import com.bursary.platform.Search.LearnerSearchResultCache;
+import com.bursary.platform.Search.LocationNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -23,33 +32,67 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ProviderSearchService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final LearnerRepository learnerRepository;
     private final AcademicYearRepository academicYearRepository;
     private final TermResultRepository termResultRepository;
-    private final SubjectMarkRepository subjectMarkRepository;
     private final AcademicService academicService;
     private final FollowService followService;
     private final ProviderLearnerFollowRepository followRepository;
+    private final LearnerSearchSummaryRepository searchSummaryRepository;
+    private final LearnerSearchIndex searchIndex;
+    private final LearnerSearchResultCache searchResultCache;
 
     /**
-     * Search learners by academic criteria
+     * Search learners by academic criteria, one keyset page at a time.
+     * Facets are counted from the in-memory index only; they are omitted while it is loading.
      */
-    @Transactional(readOnly = true)
-    public List<LearnerSearchResultResponse> searchLearners(Long providerId, LearnerSearchRequest searchRequest) {
+    public LearnerSearchPageResponse searchLearners(Long providerId, LearnerSearchRequest searchRequest,
+                                                    Integer limit, String cursor, boolean includeFacets) {
         log.info("Provider {} searching learners with criteria: {}", providerId, searchRequest);
 
-        // Get all learners (we'll filter in memory for hackathon simplicity)
-        List<Learner> allLearners = learnerRepository.findAll();
+        int pageSize = resolvePageSize(limit);
+        LearnerSearchCursor after = cursor != null && !cursor.isEmpty() ? LearnerSearchCursor.decode(cursor) : null;
+
+        // Resolve follow state for the whole page from one (cached) ID set
+        long[] followedLearnerIds = followService.getFollowedLearnerIds(providerId);
+
+        // Fetch one extra row to know whether another page exists
+        List<LearnerSearchResultResponse> results;
+        LearnerSearchFacets facets = null;
+
+        if (searchIndex.isReady()) {
+            LearnerSearchHits hits = searchIndexed(LearnerSearchFilter.from(searchRequest), after, pageSize + 1, includeFacets);
+            results = hits.getDocuments().stream()
+                    .map(document -> mapToSearchResult(document, followedLearnerIds))
+                    .collect(Collectors.toList());
+            facets = hits.getFacets();
+        } else {
+            results = searchSummaries(searchRequest, after, pageSize + 1).stream()
+                    .map(summary -> mapToSearchResult(summary, followedLearnerIds))
+                    .collect(Collectors.toList());
+        }
+
+        boolean hasMore = results.size() > pageSize;
+        String nextCursor = null;
+
+        if (hasMore) {
+            results = results.subList(0, pageSize);
+            LearnerSearchResultResponse last = results.get(results.size() - 1);
+            nextCursor = LearnerSearchCursor.of(last.getOverallAverage(), last.getLearnerId()).encode();
+        }
 
-        // Filter learners based on criteria
-        List<LearnerSearchResultResponse> results = allLearners.stream()
-                .map(learner -> buildSearchResult(learner, searchRequest, providerId))
-                .filter(Objects::nonNull) // Remove learners who don't match criteria
-                .sorted(Comparator.comparing(LearnerSearchResultResponse::getOverallAverage).reversed())
-                .collect(Collectors.toList());
+        log.info("Found {} learners matching criteria (more: {})", results.size(), hasMore);
 
-        log.info("Found {} learners matching criteria", results.size());
-        return results;
+        return LearnerSearchPageResponse.builder()
+                .results(results)
+                .limit(pageSize)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .facets(facets)
+                .build();
     }
 
     /**
@@ -100,138 +143,102 @@ public class ProviderSearchService {
 
     // ========== Helper Methods ==========
 
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
     /**
-     * Build search result for a learner, return null if doesn't match criteria
+     * Search the in-memory index through the shared result cache (follow state is applied by the caller)
      */
-    private LearnerSearchResultResponse buildSearchResult(Learner learner,
-                                                          LearnerSearchRequest criteria,
-                                                          Long providerId) {
-        try {
-            // Get learner's academic years
-            List<AcademicYear> academicYears = academicYearRepository.findByLearnerIdOrderByYearDescGradeLevelDesc(learner.getId());
-
-            if (academicYears.isEmpty()) {
-                return null; // Skip learners with no academic records
-            }
-
-            // Get most recent academic year
-            AcademicYear latestYear = academicYears.get(0);
-
-            // Filter by grade level
-            if (criteria.getGradeLevel() != null && !latestYear.getGradeLevel().equals(criteria.getGradeLevel())) {
-                return null;
-            }
-
-            // Filter by year
-            if (criteria.getYear() != null && !latestYear.getYear().equals(criteria.getYear())) {
-                return null;
-            }
-
-            // Filter by location
-            if (criteria.getLocation() != null && learner.getLocation() != null) {
-                if (!learner.getLocation().toLowerCase().contains(criteria.getLocation().toLowerCase())) {
-                    return null;
-                }
-            }
-
-            // Filter by household income
-            if (criteria.getMaxHouseholdIncome() != null && learner.getHouseholdIncome() != null) {
-                if (learner.getHouseholdIncome().compareTo(criteria.getMaxHouseholdIncome()) > 0) {
-                    return null;
-                }
-            }
-
-            // Get all term results for this academic year
-            List<TermResult> termResults = termResultRepository.findByAcademicYearIdOrderByTermNumberAsc(latestYear.getId());
-
-            if (termResults.isEmpty()) {
-                return null;
-            }
-
-            // Calculate overall average
-            BigDecimal overallAverage = calculateOverallAverage(termResults);
-            BigDecimal highestTermAverage = termResults.stream()
-                    .map(TermResult::getAverageMark)
-                    .max(Comparator.naturalOrder())
-                    .orElse(BigDecimal.ZERO);
-
-            // Filter by minimum average
-            if (criteria.getMinAverageMark() != null) {
-                if (overallAverage.compareTo(criteria.getMinAverageMark()) < 0) {
-                    return null;
-                }
-            }
+    private LearnerSearchHits searchIndexed(LearnerSearchFilter filter, LearnerSearchCursor after,
+                                            int limit, boolean includeFacets) {
+        LearnerSearchHits cached = searchResultCache.get(filter, after, limit, includeFacets);
+        if (cached != null) {
+            return cached;
+        }
 
-            // Filter by subject performance
-            if (criteria.getSubjectName() != null && criteria.getMinSubjectMark() != null) {
-                boolean meetsSubjectCriteria = checkSubjectCriteria(
-                        termResults,
-                        criteria.getSubjectName(),
-                        criteria.getMinSubjectMark()
-                );
-
-                if (!meetsSubjectCriteria) {
-                    return null;
-                }
-            }
+        long generation = searchResultCache.generation();
+        LearnerSearchHits hits = searchIndex.search(filter, after, limit, includeFacets);
+        searchResultCache.put(filter, after, limit, includeFacets, hits, generation);
 
-            // Check if provider is following
-            boolean isFollowing = followService.isFollowing(providerId, learner.getId());
-
-            // Build result
-            return LearnerSearchResultResponse.builder()
-                    .learnerId(learner.getId())
-                    .firstName(learner.getFirstName())
-                    .lastName(learner.getLastName())
-                    .fullName(learner.getFirstName() + " " + learner.getLastName())
-                    .schoolName(learner.getSchoolName())
-                    .location(learner.getLocation())
-                    .householdIncome(learner.getHouseholdIncome())
-                    .currentGradeLevel(latestYear.getGradeLevel())
-                    .currentYear(latestYear.getYear())
-                    .overallAverage(overallAverage)
-                    .highestTermAverage(highestTermAverage)
-                    .isFollowing(isFollowing)
-                    .build();
-
-        } catch (Exception e) {
-            log.warn("Error building search result for learner {}: {}", learner.getId(), e.getMessage());
-            return null;
-        }
+        return hits;
     }
 
     /**
-     * Calculate overall average across all terms
+     * Database fallback used until the in-memory index has loaded (ORDER BY/LIMIT in the query)
      */
-    private BigDecimal calculateOverallAverage(List<TermResult> termResults) {
-        if (termResults.isEmpty()) {
-            return BigDecimal.ZERO;
+    private List<LearnerSearchSummary> searchSummaries(LearnerSearchRequest searchRequest,
+                                                       LearnerSearchCursor after, int limit) {
+        // Same location semantics as the index: resolve which stored locations the filter matches
+        Set<String> locationTokens = LocationNormalizer.tokenize(searchRequest.getLocation());
+        List<String> locations = locationTokens.isEmpty()
+                ? null
+                : learnerRepository.findDistinctLocations().stream()
+                        .filter(location -> LocationNormalizer.matches(locationTokens, location))
+                        .toList();
+
+        // One EXISTS per subject; a repeated subject keeps its strictest threshold
+        Map<String, BigDecimal> minSubjectMarks = new TreeMap<>();
+        for (SubjectThreshold threshold : searchRequest.resolveSubjectThresholds()) {
+            if (threshold.getSubjectName() == null || threshold.getMinMark() == null) {
+                continue;
+            }
+            minSubjectMarks.merge(LearnerSearchSummaryService.normalizeSubject(threshold.getSubjectName()),
+                    threshold.getMinMark(), BigDecimal::max);
         }
 
-        BigDecimal sum = termResults.stream()
-                .map(TermResult::getAverageMark)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return searchSummaryRepository.searchSummaries(searchRequest, locations, minSubjectMarks, after, limit);
+    }
 
-        return sum.divide(BigDecimal.valueOf(termResults.size()), 2, RoundingMode.HALF_UP);
+    /**
+     * Map indexed search document to search result
+     */
+    private LearnerSearchResultResponse mapToSearchResult(LearnerSearchDocument document, long[] followedLearnerIds) {
+        boolean isFollowing = Arrays.binarySearch(followedLearnerIds, document.getLearnerId()) >= 0;
+
+        return LearnerSearchResultResponse.builder()
+                .learnerId(document.getLearnerId())
+                .firstName(document.getFirstName())
+                .lastName(document.getLastName())
+                .fullName(document.getFirstName() + " " + document.getLastName())
+                .schoolName(document.getSchoolName())
+                .location(document.getLocation())
+                .householdIncome(document.getHouseholdIncome())
+                .currentGradeLevel(document.getGradeLevel())
+                .currentYear(document.getYear())
+                .overallAverage(document.getOverallAverage())
+                .highestTermAverage(document.getHighestTermAverage())
+                .isFollowing(isFollowing)
+                .build();
     }
 
     /**
-     * Check if learner meets subject criteria
+     * Map search summary (with its learner) to search result
      */
-    private boolean checkSubjectCriteria(List<TermResult> termResults, String subjectName, BigDecimal minMark) {
-        for (TermResult term : termResults) {
-            List<SubjectMark> subjects = subjectMarkRepository.findByTermResultIdOrderBySubjectNameAsc(term.getId());
-
-            for (SubjectMark subject : subjects) {
-                if (subject.getSubjectName().equalsIgnoreCase(subjectName)) {
-                    if (subject.getMark().compareTo(minMark) >= 0) {
-                        return true; // Found at least one term where subject meets criteria
-                    }
-                }
-            }
-        }
+    private LearnerSearchResultResponse mapToSearchResult(LearnerSearchSummary summary, long[] followedLearnerIds) {
+        Learner learner = summary.getLearner();
+        boolean isFollowing = Arrays.binarySearch(followedLearnerIds, learner.getId()) >= 0;
 
-        return false;
+        return LearnerSearchResultResponse.builder()
+                .learnerId(learner.getId())
+                .firstName(learner.getFirstName())
+                .lastName(learner.getLastName())
+                .fullName(learner.getFirstName() + " " + learner.getLastName())
+                .schoolName(learner.getSchoolName())
+                .location(learner.getLocation())
+                .householdIncome(learner.getHouseholdIncome())
+                .currentGradeLevel(summary.getGradeLevel())
+                .currentYear(summary.getYear())
+                .overallAverage(summary.getOverallAverage())
+                .highestTermAverage(summary.getHighestTermAverage())
+                .isFollowing(isFollowing)
+                .build();
     }
 
     /**
@@ -0,0 +1,85 @@
+package com.bursary.platform.Services;
+
+import com.bursary.platform.DTOs.EncodedResponse;
+import com.bursary.platform.DTOs.ResourceVersion;
+import com.bursary.platform.Search.BursaryCatalogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Already-encoded bodies of hot list responses, so a cache hit skips Jackson and
+ * compression and is copied straight to the response. One slot per list holds the
+ * body of the list's current version; a new version (catalog swap, new day) replaces
+ * it and a catalog change clears every slot.
+ *
+ * Bodies are written with the auto-configured JsonMapper that Spring MVC's message
+ * converter uses (not the Jackson 2 ObjectMapper bean), so a cached body is the same
+ * JSON an uncached endpoint would return.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResponseBodyCache {
+
+    private final JsonMapper jsonMapper;
+
+    private final Map<String, EncodedResponse> bodies = new ConcurrentHashMap<>();
+
+    /**
+     * Encoded body of the list at the given version, serializing the supplied
+     * response on a miss
+     */
+    public EncodedResponse get(String list, ResourceVersion version, Supplier<?> response) {
+        EncodedResponse cached = bodies.get(list);
+        if (cached != null && cached.getEtag().equals(version.getEtag())) {
+            return cached;
+        }
+
+        EncodedResponse encoded = encode(version.getEtag(), response.get());
+        bodies.put(list, encoded);
+
+        log.debug("Encoded {} response: {} bytes, {} gzipped", list, encoded.getJson().length,
+                encoded.getGzip() != null ? encoded.getGzip().length : "not");
+        return encoded;
+    }
+
+    @EventListener
+    public void onCatalogChanged(BursaryCatalogChangedEvent event) {
+        bodies.clear();
+    }
+
+    // ========== Helper Methods ==========
+
+    private EncodedResponse encode(String etag, Object response) {
+        try {
+            byte[] json = jsonMapper.writeValueAsBytes(response);
+            byte[] gzip = gzip(json);
+
+            return new EncodedResponse(etag, json, gzip.length < json.length ? gzip : null);
+        } catch (JacksonException e) {
+            throw new IllegalStateException("Could not serialize response", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,182 @@
+package com.bursary.platform.Services;
+
+import com.bursary.platform.DTOs.CreateSavedSearchRequest;
+import com.bursary.platform.DTOs.LearnerSearchRequest;
+import com.bursary.platform.DTOs.SavedSearchResponse;
+import com.bursary.platform.Entities.SavedSearch;
+import com.bursary.platform.Events.SavedSearchesMatchedEvent;
+import com.bursary.platform.Exceptions.ResourceNotFoundException;
+import com.bursary.platform.Repositories.SavedSearchRepository;
+import com.bursary.platform.Search.LearnerSearchDocument;
+import com.bursary.platform.Search.LearnerSearchFilter;
+import com.bursary.platform.Search.LearnerSummaryChangedEvent;
+import com.bursary.platform.Search.SavedSearchChangedEvent;
+import com.bursary.platform.Search.SavedSearchRegistry;
+import com.bursary.platform.Search.SavedSearchRegistry.CompiledSavedSearch;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Saved (standing) provider searches. Criteria are compiled once into the in-memory
+ * registry; each recomputed learner summary is checked against the searches it could
+ * match, and providers are notified when a learner newly matches.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SavedSearchService {
+
+    private static final int MAX_SAVED_SEARCHES_PER_PROVIDER = 20;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchRegistry registry;
+    private final OutboxService outboxService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Save a standing search for a provider
+     */
+    @Transactional
+    public SavedSearchResponse createSavedSearch(Long providerId, CreateSavedSearchRequest request) {
+        log.info("Provider {} saving search '{}'", providerId, request.getName());
+
+        if (savedSearchRepository.countByProviderId(providerId) >= MAX_SAVED_SEARCHES_PER_PROVIDER) {
+            throw new IllegalArgumentException(
+                    "You can have at most " + MAX_SAVED_SEARCHES_PER_PROVIDER + " saved searches");
+        }
+
+        SavedSearch savedSearch = SavedSearch.builder()
+                .providerId(providerId)
+                .name(request.getName().trim())
+                .criteria(writeCriteria(request.getCriteria()))
+                .build();
+
+        savedSearch = savedSearchRepository.save(savedSearch);
+
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(savedSearch.getId(), compile(savedSearch)));
+
+        log.info("Saved search {} created for provider {}", savedSearch.getId(), providerId);
+
+        return mapToResponse(savedSearch);
+    }
+
+    /**
+     * Get all saved searches of a provider
+     */
+    @Transactional(readOnly = true)
+    public List<SavedSearchResponse> getMySavedSearches(Long providerId) {
+        return savedSearchRepository.findByProviderIdOrderByCreatedAtDesc(providerId).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Delete a provider's saved search
+     */
+    @Transactional
+    public void deleteSavedSearch(Long providerId, Long savedSearchId) {
+        log.info("Provider {} deleting saved search {}", providerId, savedSearchId);
+
+        SavedSearch savedSearch = savedSearchRepository.findByIdAndProviderId(savedSearchId, providerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Saved search not found with ID: " + savedSearchId));
+
+        savedSearchRepository.delete(savedSearch);
+
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(savedSearchId, null));
+    }
+
+    /**
+     * Compile every saved search into the registry at startup
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadRegistry() {
+        List<CompiledSavedSearch> searches = savedSearchRepository.findAll().stream()
+                .map(this::compile)
+                .collect(Collectors.toList());
+
+        registry.load(searches);
+
+        log.info("Compiled {} saved searches", searches.size());
+    }
+
+    /**
+     * Apply saved search changes to the registry once their transaction has committed
+     */
+    @TransactionalEventListener
+    public void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        if (event.getSearch() == null) {
+            registry.unregister(event.getSavedSearchId());
+        } else {
+            registry.register(event.getSearch());
+        }
+    }
+
+    /**
+     * Record the saved searches the learner newly matches. Runs inside the transaction
+     * that recomputed the summary (result uploads and edits), so the event commits or
+     * rolls back with the results; providers are notified by the outbox relay.
+     */
+    @EventListener
+    public void onSummaryChanged(LearnerSummaryChangedEvent event) {
+        LearnerSearchDocument learner = event.getDocument();
+
+        List<SavedSearchesMatchedEvent.Match> matches = registry.findNewMatches(event.getPreviousDocument(), learner).stream()
+                .map(search -> new SavedSearchesMatchedEvent.Match(
+                        search.getSavedSearchId(), search.getProviderId(), search.getName()))
+                .collect(Collectors.toList());
+
+        if (!matches.isEmpty()) {
+            outboxService.append(new SavedSearchesMatchedEvent(
+                    learner.getLearnerId(), learner.getFirstName() + " " + learner.getLastName(), matches));
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private CompiledSavedSearch compile(SavedSearch savedSearch) {
+        return new CompiledSavedSearch(
+                savedSearch.getId(),
+                savedSearch.getProviderId(),
+                savedSearch.getName(),
+                LearnerSearchFilter.from(readCriteria(savedSearch))
+        );
+    }
+
+    private String writeCriteria(LearnerSearchRequest criteria) {
+        try {
+            return objectMapper.writeValueAsString(criteria);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid search criteria");
+        }
+    }
+
+    private LearnerSearchRequest readCriteria(SavedSearch savedSearch) {
+        try {
+            return objectMapper.readValue(savedSearch.getCriteria(), LearnerSearchRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored criteria of saved search " + savedSearch.getId() + " are unreadable", e);
+        }
+    }
+
+    private SavedSearchResponse mapToResponse(SavedSearch savedSearch) {
+        return SavedSearchResponse.builder()
+                .id(savedSearch.getId())
+                .name(savedSearch.getName())
+                .criteria(readCriteria(savedSearch))
+                .createdAt(savedSearch.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+-- ============================================================================
+-- Additive schema objects (idempotent; existing tables are managed externally)
+-- ============================================================================
+
+-- Learner search read model (maintained by LearnerSearchSummaryService)
+CREATE TABLE IF NOT EXISTS learner_search_summary (
+    learner_id           BIGINT        PRIMARY KEY REFERENCES learners (id) ON DELETE CASCADE,
+    academic_year_id     BIGINT        NOT NULL,
+    year                 INTEGER       NOT NULL,
+    grade_level          INTEGER       NOT NULL,
+    term_count           INTEGER       NOT NULL,
+    overall_average      NUMERIC(5, 2) NOT NULL,
+    highest_term_average NUMERIC(5, 2) NOT NULL,
+    updated_at           TIMESTAMP     NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_learner_search_summary_grade ON learner_search_summary (grade_level);
+CREATE INDEX IF NOT EXISTS idx_learner_search_summary_year ON learner_search_summary (year);
+CREATE INDEX IF NOT EXISTS idx_learner_search_summary_average ON learner_search_summary (overall_average);
+
+CREATE TABLE IF NOT EXISTS learner_subject_summary (
+    id           BIGSERIAL     PRIMARY KEY,
+    learner_id   BIGINT        NOT NULL REFERENCES learners (id) ON DELETE CASCADE,
+    subject_key  VARCHAR(100)  NOT NULL,
+    subject_name VARCHAR(100)  NOT NULL,
+    best_mark    NUMERIC(5, 2) NOT NULL,
+    CONSTRAINT unique_learner_subject_summary UNIQUE (learner_id, subject_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_learner_subject_summary_learner ON learner_subject_summary (learner_id);
+CREATE INDEX IF NOT EXISTS idx_learner_subject_summary_subject_mark ON learner_subject_summary (subject_key, best_mark);
+
+-- Standing provider searches (evaluated by SavedSearchService when learner summaries change)
+CREATE TABLE IF NOT EXISTS saved_searches (
+    id          BIGSERIAL    PRIMARY KEY,
+    provider_id BIGINT       NOT NULL REFERENCES providers (id) ON DELETE CASCADE,
+    name        VARCHAR(100) NOT NULL,
+    criteria    TEXT         NOT NULL,
+    created_at  TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_saved_searches_provider ON saved_searches (provider_id);
+
+-- Provider application inbox: keyset on (submitted_at, id) in the query's own order
+-- (DESC NULLS LAST), per bursary and provider-wide via a provider_id copied from the bursary
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS provider_id BIGINT;
+UPDATE applications a SET provider_id = b.provider_id
+FROM bursaries b
+WHERE b.id = a.bursary_id AND a.provider_id IS NULL;
+-- Once backfilled, a row without a provider would silently drop out of the inbox: reject it
+ALTER TABLE applications ALTER COLUMN provider_id SET NOT NULL;
+
+DROP INDEX IF EXISTS idx_applications_bursary_submitted;
+CREATE INDEX IF NOT EXISTS idx_applications_bursary_inbox ON applications (bursary_id, submitted_at DESC NULLS LAST, id DESC);
+CREATE INDEX IF NOT EXISTS idx_applications_provider_inbox ON applications (provider_id, submitted_at DESC NULLS LAST, id DESC);
+CREATE INDEX IF NOT EXISTS idx_applications_provider_status_inbox ON applications (provider_id, status, submitted_at DESC NULLS LAST, id DESC);
+
+-- Transactional outbox (appended by write services in their transaction, drained by OutboxService)
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id           BIGSERIAL    PRIMARY KEY,
+    event_type   VARCHAR(100) NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   TIMESTAMP    NOT NULL,
+    available_at TIMESTAMP    NOT NULL,
+    attempts     INTEGER      NOT NULL DEFAULT 0,
+    last_error   TEXT,
+    processed_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events (id) WHERE processed_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_processed ON outbox_events (processed_at) WHERE processed_at IS NOT NULL;
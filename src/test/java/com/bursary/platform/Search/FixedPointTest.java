@@ -0,0 +1,47 @@
+package com.bursary.platform.Search;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FixedPoint must agree with the BigDecimal arithmetic it replaced.
+ */
+class FixedPointTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void averageMatchesBigDecimalHalfUp() {
+        for (int i = 0; i < 10_000; i++) {
+            int count = 1 + random.nextInt(12);
+            long sum = 0;
+            BigDecimal decimalSum = BigDecimal.ZERO;
+            for (int j = 0; j < count; j++) {
+                long hundredths = random.nextInt(10_001);
+                sum += hundredths;
+                decimalSum = decimalSum.add(BigDecimal.valueOf(hundredths, 2));
+            }
+
+            BigDecimal expected = decimalSum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+            assertThat(FixedPoint.toDecimal(FixedPoint.average(sum, count))).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void thresholdsKeepComparisonSemantics() {
+        BigDecimal threshold = new BigDecimal("69.995");
+        long ceil = FixedPoint.ceilHundredths(threshold);
+        long floor = FixedPoint.floorHundredths(threshold);
+
+        assertThat(ceil).isEqualTo(7000);
+        assertThat(floor).isEqualTo(6999);
+        assertThat(FixedPoint.toDecimal(ceil)).isGreaterThanOrEqualTo(threshold);
+        assertThat(FixedPoint.toDecimal(floor)).isLessThanOrEqualTo(threshold);
+        assertThat(FixedPoint.toHundredths(threshold)).isEqualTo(7000);
+    }
+}
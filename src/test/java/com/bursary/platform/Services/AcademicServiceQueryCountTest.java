@@ -0,0 +1,130 @@
+package com.bursary.platform.Services;
+
+import com.bursary.platform.DTOs.AcademicYearResponse;
+import com.bursary.platform.Entities.AcademicYear;
+import com.bursary.platform.Entities.Learner;
+import com.bursary.platform.Entities.SubjectMark;
+import com.bursary.platform.Entities.TermResult;
+import com.bursary.platform.Repositories.AcademicYearRepository;
+import com.bursary.platform.Repositories.LearnerRepository;
+import com.bursary.platform.Repositories.SubjectMarkRepository;
+import com.bursary.platform.Repositories.TermResultRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that loading a learner's academic history costs a fixed number of
+ * statements, however many years and terms the learner has.
+ */
+@DataJpaTest(properties = {
+        // "year" is a keyword in H2; keep the datasource so the URL can say otherwise
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:academic;DB_CLOSE_DELAY=-1;NON_KEYWORDS=YEAR",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(AcademicService.class)
+class AcademicServiceQueryCountTest {
+
+    private static final int YEARS = 3;
+    private static final int TERMS_PER_YEAR = 4;
+    private static final int SUBJECTS_PER_TERM = 5;
+
+    @Autowired
+    private AcademicService academicService;
+
+    @Autowired
+    private LearnerRepository learnerRepository;
+
+    @Autowired
+    private AcademicYearRepository academicYearRepository;
+
+    @Autowired
+    private TermResultRepository termResultRepository;
+
+    @Autowired
+    private SubjectMarkRepository subjectMarkRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private OutboxService outboxService;
+
+    @MockitoBean
+    private LearnerSearchSummaryService searchSummaryService;
+
+    private Long learnerId;
+
+    @BeforeEach
+    void createHistory() {
+        learnerId = learnerRepository.save(Learner.builder()
+                .firstName("Thandi")
+                .lastName("Mokoena")
+                .email("thandi@example.com")
+                .passwordHash("hash")
+                .build()).getId();
+
+        for (int year = 0; year < YEARS; year++) {
+            Long academicYearId = academicYearRepository.save(AcademicYear.builder()
+                    .learnerId(learnerId)
+                    .year(2022 + year)
+                    .gradeLevel(10 + year)
+                    .build()).getId();
+
+            for (int term = 1; term <= TERMS_PER_YEAR; term++) {
+                Long termResultId = termResultRepository.save(TermResult.builder()
+                        .academicYearId(academicYearId)
+                        .termNumber(term)
+                        .averageMark(BigDecimal.valueOf(70))
+                        .build()).getId();
+
+                for (int subject = 0; subject < SUBJECTS_PER_TERM; subject++) {
+                    subjectMarkRepository.save(SubjectMark.builder()
+                            .termResultId(termResultId)
+                            .subjectName("Subject " + subject)
+                            .mark(BigDecimal.valueOf(70))
+                            .build());
+                }
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getMyAcademicYearsUsesTwoStatements() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<AcademicYearResponse> years = academicService.getMyAcademicYears(learnerId);
+
+        assertThat(years).hasSize(YEARS);
+        assertThat(years).allSatisfy(year -> {
+            assertThat(year.getTerms()).hasSize(TERMS_PER_YEAR);
+            assertThat(year.getTerms()).allSatisfy(term ->
+                    assertThat(term.getSubjects()).hasSize(SUBJECTS_PER_TERM));
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,61 @@
+package com.bursary.platform.Services;
+
+import com.bursary.platform.Search.LearnerProfileChangedEvent;
+import com.bursary.platform.Search.LearnerSearchDocument;
+import com.bursary.platform.Search.LearnerSearchIndex;
+import com.bursary.platform.Search.LearnerSearchResultCache;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A profile change committed while the startup load is reading documents must
+ * survive the load, even though the learner is not indexed yet when it arrives.
+ */
+class LearnerSearchIndexServiceTest {
+
+    private static final Long LEARNER_ID = 7L;
+
+    private final LearnerSearchIndex searchIndex = new LearnerSearchIndex();
+    private final LearnerSearchSummaryService searchSummaryService = mock(LearnerSearchSummaryService.class);
+    private final LearnerSearchIndexService indexService =
+            new LearnerSearchIndexService(searchIndex, new LearnerSearchResultCache(), searchSummaryService);
+
+    @Test
+    void profileChangedDuringLoadIsKept() {
+        LearnerSearchDocument stale = LearnerSearchDocument.builder()
+                .learnerId(LEARNER_ID)
+                .firstName("Thandi")
+                .lastName("Mokoena")
+                .schoolName("Old School")
+                .location("Durban")
+                .householdIncome(new BigDecimal("120000.00"))
+                .gradeLevel(11)
+                .year(2026)
+                .overallAverage(new BigDecimal("72.50"))
+                .highestTermAverage(new BigDecimal("75.00"))
+                .subjectBestMarks(Map.of())
+                .build();
+
+        // The change commits after the document was read but before the index is replaced
+        when(searchSummaryService.loadSearchDocuments()).thenAnswer(invocation -> {
+            indexService.onProfileChanged(new LearnerProfileChangedEvent(
+                    LEARNER_ID, "Thandi", "Mokoena", "New School", "Cape Town", new BigDecimal("90000.00")));
+            return List.of(stale);
+        });
+
+        indexService.loadIndex();
+
+        LearnerSearchDocument loaded = searchIndex.find(LEARNER_ID).orElseThrow();
+        assertThat(loaded.getSchoolName()).isEqualTo("New School");
+        assertThat(loaded.getLocation()).isEqualTo("Cape Town");
+        assertThat(loaded.getHouseholdIncome()).isEqualByComparingTo("90000.00");
+        assertThat(loaded.getOverallAverage()).isEqualByComparingTo("72.50");
+    }
+}